@@ -0,0 +1,98 @@
+package nibm.project.campus_office.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.jdbc.JdbcDaoImpl;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Sign-ins per second for a pool of staff accounts in an embedded H2 database. The encoder
+ * stack matches {@code SecurityConfig} (delegating BCrypt at cost 10 behind the throttled
+ * hashing pool) and the cache is the real {@link CaffeineUserCache}. The user lookup is a
+ * {@link JdbcDaoImpl} over a one-table schema rather than {@link UserDetailsServiceImpl}, which
+ * needs JPA; both read one row by username. Run with and without the user cache to see what
+ * the lookup costs next to hashing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(32)
+@Fork(1)
+public class LoginBenchmark {
+
+    private static final int USERS = 2_000;
+    private static final String PASSWORD = "staff123";
+
+    @Param({"false", "true"})
+    private boolean cached;
+
+    private EmbeddedDatabase database;
+    private ThrottledPasswordEncoder encoder;
+    private AuthenticationManager authenticationManager;
+
+    @Setup
+    public void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbc = new JdbcTemplate(database);
+        jdbc.execute("create table users (username varchar(255) primary key, password varchar(255) not null, "
+                + "enabled boolean not null, role varchar(32) not null)");
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(10);
+        // One hash shared by every account; hashing 2,000 passwords up front would dominate setup
+        String hash = "{bcrypt}" + bcrypt.encode(PASSWORD);
+        jdbc.batchUpdate("insert into users (username, password, enabled, role) values (?, ?, true, 'STAFF')",
+                IntStream.range(0, USERS)
+                        .mapToObj(i -> new Object[]{"staff" + i, hash})
+                        .toList());
+
+        JdbcDaoImpl users = new JdbcDaoImpl();
+        users.setDataSource(database);
+        users.setUsersByUsernameQuery("select username, password, enabled from users where username = ?");
+        users.setAuthoritiesByUsernameQuery("select username, 'ROLE_' || role from users where username = ?");
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        encoder = new ThrottledPasswordEncoder(delegating, Math.max(1, Runtime.getRuntime().availableProcessors() / 2), 500);
+
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(users);
+        provider.setPasswordEncoder(encoder);
+        if (cached) {
+            provider.setUserCache(new CaffeineUserCache(Duration.ofMinutes(5), USERS));
+        }
+        authenticationManager = new ProviderManager(provider);
+    }
+
+    @TearDown
+    public void tearDown() {
+        encoder.destroy();
+        database.shutdown();
+    }
+
+    @Benchmark
+    public Authentication signIn() {
+        String username = "staff" + ThreadLocalRandom.current().nextInt(USERS);
+        return authenticationManager.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated(username, PASSWORD));
+    }
+}
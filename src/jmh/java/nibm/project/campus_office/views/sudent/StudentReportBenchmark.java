@@ -0,0 +1,85 @@
+package nibm.project.campus_office.views.sudent;
+
+import nibm.project.campus_office.entity.*;
+import nibm.project.campus_office.enums.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reports per second for a synthetic student whose enrollment, payment and interaction
+ * tables each hold {@code rows} rows. Rendering goes to a null stream, so only layout and
+ * PDF serialization are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class StudentReportBenchmark {
+
+    @Param({"50", "500", "5000"})
+    private int rows;
+
+    private StudentReportPdfGenerator generator;
+    private Student student;
+
+    @Setup
+    public void setUp() {
+        generator = new StudentReportPdfGenerator(null, null, new StudentReportTemplate());
+
+        Instructor instructor = Instructor.builder()
+                .firstName("Kento").lastName("Nanami").email("nanami@nibm.lk")
+                .build();
+
+        List<Enrollment> enrollments = new ArrayList<>();
+        List<Payment> payments = new ArrayList<>();
+        List<Interaction> interactions = new ArrayList<>();
+
+        student = Student.builder()
+                .firstName("Satoru").lastName("Gojo").email("gojo@nibm.lk")
+                .studentId("BENCH-001").phone("0771234567")
+                .status(StudentStatus.ACTIVE)
+                .enrollmentDate(LocalDate.of(2024, 1, 15))
+                .enrollments(enrollments)
+                .payments(payments)
+                .interactions(interactions)
+                .build();
+
+        for (int i = 0; i < rows; i++) {
+            Course course = Course.builder()
+                    .courseCode("SE-" + i).title("Software Engineering " + i)
+                    .instructor(instructor).level(CourseLevel.values()[i % CourseLevel.values().length])
+                    .build();
+            enrollments.add(Enrollment.builder()
+                    .student(student).course(course)
+                    .status(EnrollmentStatus.ENROLLED).grade(50.0 + i % 50)
+                    .enrollmentDate(LocalDate.of(2024, 1, 15).plusDays(i))
+                    .build());
+            payments.add(Payment.builder()
+                    .student(student).amount(BigDecimal.valueOf(15000 + i))
+                    .status(PaymentStatus.PAID).method(PaymentMethod.values()[i % PaymentMethod.values().length])
+                    .paymentDate(LocalDate.of(2024, 2, 1).plusDays(i)).dueDate(LocalDate.of(2024, 2, 1).plusDays(i))
+                    .transactionId("TX-" + i)
+                    .build());
+            interactions.add(Interaction.builder()
+                    .student(student).type(InteractionType.values()[i % InteractionType.values().length])
+                    .subject("Follow-up call " + i).contactedBy("Front office")
+                    .notes("Discussed the upcoming assessment schedule and outstanding coursework")
+                    .interactionDate(LocalDateTime.of(2024, 3, 1, 9, 0).plusHours(i))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public void renderReport() {
+        generator.render(student, null, OutputStream.nullOutputStream());
+    }
+}
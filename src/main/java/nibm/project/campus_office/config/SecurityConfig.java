@@ -2,17 +2,28 @@ package nibm.project.campus_office.config;
 
 import com.vaadin.flow.spring.security.VaadinWebSecurity;
 import lombok.extern.slf4j.Slf4j;
+import nibm.project.campus_office.security.CaffeineUserCache;
+import nibm.project.campus_office.security.ThrottledPasswordEncoder;
 import nibm.project.campus_office.security.UserDetailsServiceImpl;
 import nibm.project.campus_office.views.LoginView;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.SecurityFilterChain;
+
+import java.util.Map;
 
 
 @Slf4j
@@ -24,9 +35,30 @@ public class SecurityConfig extends VaadinWebSecurity {
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
 
+    @Autowired
+    private CaffeineUserCache userCache;
+
+    @Value("${campus.security.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    @Value("${campus.security.password-hashing.threads:4}")
+    private int hashingThreads;
+
+    @Value("${campus.security.password-hashing.queue-capacity:500}")
+    private int hashingQueueCapacity;
+
+    /**
+     * New hashes are written as {@code {bcrypt}...} at the configured cost. Legacy hashes
+     * without a prefix still match as plain BCrypt, and any hash that is not in the current
+     * format is re-encoded on the next successful sign-in via
+     * {@link UserDetailsServiceImpl#updatePassword}.
+     */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return new ThrottledPasswordEncoder(encoder, hashingThreads, hashingQueueCapacity);
     }
 
     SecurityConfig() {
@@ -41,9 +73,31 @@ public class SecurityConfig extends VaadinWebSecurity {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder);
+        authProvider.setUserCache(userCache);
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         return authProvider;
     }
 
+    /**
+     * Actuator endpoints, matched ahead of the Vaadin chain. Health and the Prometheus scrape
+     * stay open for probes and the scraper; everything else (metrics, {@code sqltop},
+     * {@code jfr}) needs an ADMIN account over HTTP basic, without a session.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorFilterChain(HttpSecurity http) throws Exception {
+        http.securityMatcher(EndpointRequest.toAnyEndpoint())
+                .authorizeHttpRequests(authorize -> authorize
+                        .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
+                        .anyRequest().hasRole("ADMIN"))
+                .httpBasic(Customizer.withDefaults())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                // No browser session to forge requests with; lets DELETE /actuator/sqltop through
+                .csrf(csrf -> csrf.disable())
+                .authenticationProvider(authenticationProvider(passwordEncoder()));
+        return http.build();
+    }
+
     @Override
     protected void configure(HttpSecurity http) throws Exception {
         http.authorizeHttpRequests(authorize -> authorize
@@ -0,0 +1,12 @@
+package nibm.project.campus_office.dto;
+
+import nibm.project.campus_office.enums.EnrollmentStatus;
+
+import java.time.LocalDate;
+
+/**
+ * An enrollment as the grid shows it, with the student and course flattened to display names.
+ */
+public record EnrollmentRow(Long id, String studentName, String courseTitle, LocalDate enrollmentDate,
+                            EnrollmentStatus status, Double grade, LocalDate completionDate) {
+}
@@ -0,0 +1,12 @@
+package nibm.project.campus_office.dto;
+
+import nibm.project.campus_office.enums.InteractionType;
+
+import java.time.LocalDateTime;
+
+/**
+ * An interaction as the grid shows it, without its notes.
+ */
+public record InteractionRow(Long id, String studentName, InteractionType type, String subject,
+                             LocalDateTime interactionDate, String contactedBy) {
+}
@@ -0,0 +1,14 @@
+package nibm.project.campus_office.dto;
+
+import nibm.project.campus_office.enums.PaymentMethod;
+import nibm.project.campus_office.enums.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * A payment as the grid and the CSV export show it, with the student flattened to a name.
+ */
+public record PaymentRow(Long id, String studentName, BigDecimal amount, LocalDate paymentDate,
+                         LocalDate dueDate, PaymentStatus status, PaymentMethod method, String transactionId) {
+}
@@ -0,0 +1,11 @@
+package nibm.project.campus_office.dto;
+
+/**
+ * One ranked hit from the global search.
+ */
+public record SearchResult(Type type, Long id, String title, String detail, double rank) {
+
+    public enum Type {
+        STUDENT, COURSE, INTERACTION
+    }
+}
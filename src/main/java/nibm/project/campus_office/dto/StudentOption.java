@@ -0,0 +1,20 @@
+package nibm.project.campus_office.dto;
+
+import nibm.project.campus_office.entity.Student;
+
+/**
+ * Just enough of a student to show and pick it in a form; loaded with a constructor query so
+ * no entity or collection is hydrated.
+ */
+public record StudentOption(Long id, String studentId, String firstName, String lastName) {
+
+    public static StudentOption of(Student student) {
+        return new StudentOption(student.getId(), student.getStudentId(), student.getFirstName(), student.getLastName());
+    }
+
+    public String label() {
+        return studentId != null
+                ? firstName + " " + lastName + " (" + studentId + ")"
+                : firstName + " " + lastName;
+    }
+}
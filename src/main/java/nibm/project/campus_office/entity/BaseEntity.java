@@ -14,10 +14,16 @@ import java.time.LocalDateTime;
 @Setter
 @EntityListeners(AuditingEntityListener.class)
 public abstract class BaseEntity {
+    // One <entity>_seq per table, allocated in blocks by the pooled-lo optimizer so inserts batch
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
+    // Bumped on every update; a stale edit fails instead of silently overwriting a newer one
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -3,11 +3,14 @@ package nibm.project.campus_office.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import nibm.project.campus_office.enums.CourseLevel;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "courses")
 @Getter
 @Setter
@@ -28,6 +31,9 @@ public class Course extends BaseEntity {
     private Integer credits;
     private Integer durationWeeks;
 
+    // Seats on offer; null means unlimited. Seats taken live in an unmapped column, see EnrollmentService
+    private Integer capacity;
+
     @ManyToOne
     @JoinColumn(name = "instructor_id")
     private Instructor instructor;
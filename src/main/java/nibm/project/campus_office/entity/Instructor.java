@@ -2,12 +2,16 @@ package nibm.project.campus_office.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "instructors")
+@NamedEntityGraph(name = Instructor.COURSES_GRAPH, attributeNodes = @NamedAttributeNode("courses"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -15,6 +19,8 @@ import java.util.List;
 @Builder
 public class Instructor extends BaseEntity {
 
+    public static final String COURSES_GRAPH = "Instructor.courses";
+
     @Column(nullable = false)
     private String firstName;
 
@@ -34,6 +40,6 @@ public class Instructor extends BaseEntity {
     @JoinColumn(name = "user_id")
     private User user;
 
-    @OneToMany(mappedBy = "instructor", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "instructor", cascade = CascadeType.ALL)
     private List<Course> courses = new ArrayList<>();
 }
\ No newline at end of file
@@ -10,6 +10,17 @@ import java.util.List;
 
 @Entity
 @Table(name = "students")
+@NamedEntityGraph(
+        name = Student.REPORT_GRAPH,
+        attributeNodes = @NamedAttributeNode(value = "enrollments", subgraph = "enrollment-course"),
+        subgraphs = {
+                @NamedSubgraph(
+                        name = "enrollment-course",
+                        attributeNodes = @NamedAttributeNode(value = "course", subgraph = "course-instructor")
+                ),
+                @NamedSubgraph(name = "course-instructor", attributeNodes = @NamedAttributeNode("instructor"))
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,6 +28,8 @@ import java.util.List;
 @Builder
 public class Student extends BaseEntity {
 
+    public static final String REPORT_GRAPH = "Student.report";
+
     @Column(nullable = false)
     private String firstName;
 
@@ -37,10 +50,10 @@ public class Student extends BaseEntity {
     private LocalDate enrollmentDate;
     private LocalDate graduationDate;
 
-    @OneToMany(mappedBy = "student", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "student", cascade = CascadeType.ALL)
     private List<Enrollment> enrollments = new ArrayList<>();
 
-    @OneToMany(mappedBy = "student", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "student", cascade = CascadeType.ALL)
     private List<Interaction> interactions = new ArrayList<>();
 
     @OneToMany(mappedBy = "student", cascade = CascadeType.ALL)
@@ -0,0 +1,47 @@
+package nibm.project.campus_office.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Precomputed payment totals for one student. Rows are written only by
+ * {@code StudentBalanceRepository.refresh}, which the payment service calls on every payment
+ * save and delete, so the entity is read-only on the JPA side.
+ */
+@Entity
+@Table(name = "student_balances")
+@Immutable
+@Getter
+@NoArgsConstructor
+public class StudentBalance extends BaseEntity {
+
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "student_id", nullable = false, unique = true)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Student student;
+
+    @Column(nullable = false)
+    private BigDecimal pendingAmount;
+
+    @Column(nullable = false)
+    private BigDecimal paidAmount;
+
+    @Column(nullable = false)
+    private BigDecimal overdueAmount;
+
+    @Column(nullable = false)
+    private BigDecimal refundedAmount;
+
+    private LocalDate nextDueDate;
+
+    public BigDecimal getOutstandingAmount() {
+        return pendingAmount.add(overdueAmount);
+    }
+}
@@ -1,5 +1,12 @@
 package nibm.project.campus_office.enums;
 
 public enum EnrollmentStatus {
-    ENROLLED, COMPLETED, FAILED, WITHDRAWN
+    ENROLLED, COMPLETED, FAILED, WITHDRAWN, WAITLISTED;
+
+    /**
+     * Whether an enrollment in this status counts against the course capacity.
+     */
+    public boolean holdsSeat() {
+        return this != WITHDRAWN && this != WAITLISTED;
+    }
 }
@@ -0,0 +1,57 @@
+package nibm.project.campus_office.exports;
+
+import lombok.RequiredArgsConstructor;
+import nibm.project.campus_office.dto.EnrollmentRow;
+import nibm.project.campus_office.dto.InteractionRow;
+import nibm.project.campus_office.dto.PaymentRow;
+import nibm.project.campus_office.repository.EnrollmentRepository;
+import nibm.project.campus_office.repository.InteractionRepository;
+import nibm.project.campus_office.repository.PaymentRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Streams the list views out as CSV. Rows come from the repositories' {@code streamRowsBy}
+ * cursors over constructor queries, fetched 1000 at a time, so nothing enters the persistence
+ * context and memory stays flat however many rows are exported. Postgres only honours the
+ * fetch size inside a transaction, hence the read-only transaction around each export.
+ */
+@Service
+@RequiredArgsConstructor
+public class CsvExportService {
+
+    private final PaymentRepository paymentRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final InteractionRepository interactionRepository;
+
+    @Transactional(readOnly = true)
+    public void writePayments(OutputStream out) throws IOException {
+        try (CsvWriter csv = new CsvWriter(out); Stream<PaymentRow> rows = paymentRepository.streamRowsBy()) {
+            csv.writeRow("ID", "Student", "Amount", "Payment Date", "Due Date", "Status", "Method", "Transaction ID");
+            rows.forEach(row -> csv.writeRow(row.id(), row.studentName(), row.amount(), row.paymentDate(),
+                    row.dueDate(), row.status(), row.method(), row.transactionId()));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void writeEnrollments(OutputStream out) throws IOException {
+        try (CsvWriter csv = new CsvWriter(out); Stream<EnrollmentRow> rows = enrollmentRepository.streamRowsBy()) {
+            csv.writeRow("ID", "Student", "Course", "Enrollment Date", "Status", "Grade", "Completion Date");
+            rows.forEach(row -> csv.writeRow(row.id(), row.studentName(), row.courseTitle(), row.enrollmentDate(),
+                    row.status(), row.grade(), row.completionDate()));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void writeInteractions(OutputStream out) throws IOException {
+        try (CsvWriter csv = new CsvWriter(out); Stream<InteractionRow> rows = interactionRepository.streamRowsBy()) {
+            csv.writeRow("ID", "Student", "Type", "Subject", "Date", "Contacted By");
+            rows.forEach(row -> csv.writeRow(row.id(), row.studentName(), row.type(), row.subject(),
+                    row.interactionDate(), row.contactedBy()));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package nibm.project.campus_office.exports;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes RFC 4180 CSV to a stream, one record at a time. Starts with a UTF-8 byte order mark
+ * so spreadsheet applications pick the right encoding. Text that a spreadsheet would read as a
+ * formula is prefixed with {@code '} so it opens as plain text.
+ */
+final class CsvWriter implements Closeable, Flushable {
+
+    private static final String FORMULA_TRIGGERS = "=+-@\t\r";
+
+    private final BufferedWriter writer;
+
+    CsvWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        writer.write('\uFEFF');
+    }
+
+    /**
+     * Writes one record; {@code null} becomes an empty field. Unchecked so it can be called
+     * from a stream's {@code forEach}.
+     */
+    void writeRow(Object... values) {
+        try {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escape(values[i]));
+            }
+            writer.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String escape(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        // Numbers keep their sign; only free text can smuggle in a formula
+        if (!(value instanceof Number) && !text.isEmpty() && FORMULA_TRIGGERS.indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * Flushes without closing the underlying stream, which belongs to the caller.
+     */
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+}
@@ -0,0 +1,101 @@
+package nibm.project.campus_office.imports;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 reader: comma separated, double-quote escaped, quoted fields may span
+ * lines. Reads one record at a time, so the file is never held in memory.
+ */
+final class CsvReader implements Closeable {
+
+    private final Reader reader;
+    private long line = 1;
+    private long recordLine;
+    private int pending = -2;
+
+    CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the next record, or {@code null} at end of input.
+     */
+    List<String> next() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Unterminated quoted field starting on line " + recordLine);
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        pending = next;
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Physical line on which the last record returned by {@link #next()} started.
+     */
+    long recordLine() {
+        return recordLine;
+    }
+
+    private int read() throws IOException {
+        int c;
+        if (pending != -2) {
+            c = pending;
+            pending = -2;
+        } else {
+            c = reader.read();
+        }
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
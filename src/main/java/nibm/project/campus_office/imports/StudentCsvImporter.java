@@ -0,0 +1,280 @@
+package nibm.project.campus_office.imports;
+
+import com.vaadin.flow.data.binder.ValueContext;
+import com.vaadin.flow.data.validator.EmailValidator;
+import lombok.extern.slf4j.Slf4j;
+import nibm.project.campus_office.enums.StudentStatus;
+import nibm.project.campus_office.imports.StudentImportReport.RowError;
+import nibm.project.campus_office.service.DomainChangeEvent;
+import nibm.project.campus_office.service.DomainChangeEvent.Type;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+
+/**
+ * Streams a student CSV into the database. Rows are parsed and validated one at a time with
+ * the same rules as {@code StudentForm}, checked for duplicates against an in-memory set of
+ * existing student ids and emails, and inserted in JDBC batches, each batch in its own
+ * transaction.
+ * <p>
+ * Expected header (case and separators ignored): {@code student_id, first_name, last_name,
+ * email} and optionally {@code phone, status, enrollment_date, graduation_date}; dates are
+ * ISO {@code yyyy-MM-dd}.
+ */
+@Service
+@Slf4j
+public class StudentCsvImporter {
+
+    public static final int BATCH_SIZE = 1000;
+    public static final int MAX_REPORTED_ERRORS = 10_000;
+    // Must match the increment of student_seq: with pooled-lo each nextval reserves this many ids
+    private static final int ID_BLOCK_SIZE = 50;
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("studentid", "firstname", "lastname", "email");
+
+    private static final String INSERT_SQL = """
+            insert into students (id, student_id, first_name, last_name, email, phone, status,
+                                  enrollment_date, graduation_date, active, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, true, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher events;
+    private final EmailValidator emailValidator = new EmailValidator("Invalid email format");
+
+    public StudentCsvImporter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                              ApplicationEventPublisher events) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.events = events;
+    }
+
+    public StudentImportReport importCsv(InputStream in) throws IOException {
+        long start = System.nanoTime();
+
+        Set<String> studentIds = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        jdbcTemplate.query("select student_id, email from students", rs -> {
+            if (rs.getString(1) != null) {
+                studentIds.add(rs.getString(1));
+            }
+            emails.add(rs.getString(2).toLowerCase(Locale.ROOT));
+        });
+
+        long rows = 0;
+        long imported = 0;
+        long rejected = 0;
+        List<RowError> errors = new ArrayList<>();
+        List<StudentRow> batch = new ArrayList<>(BATCH_SIZE);
+
+        try (CsvReader csv = new CsvReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)))) {
+            Map<String, Integer> columns = readHeader(csv.next());
+
+            List<String> record;
+            while ((record = csv.next()) != null) {
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                rows++;
+                long line = csv.recordLine();
+
+                StudentRow row;
+                try {
+                    row = parse(record, columns, line);
+                } catch (IllegalArgumentException e) {
+                    rejected++;
+                    addError(errors, new RowError(line, value(record, columns, "studentid"), e.getMessage()));
+                    continue;
+                }
+
+                if (!studentIds.add(row.studentId())) {
+                    rejected++;
+                    addError(errors, new RowError(line, row.studentId(), "Student ID already exists"));
+                    continue;
+                }
+                if (!emails.add(row.email().toLowerCase(Locale.ROOT))) {
+                    studentIds.remove(row.studentId());
+                    rejected++;
+                    addError(errors, new RowError(line, row.studentId(), "Email already exists"));
+                    continue;
+                }
+
+                batch.add(row);
+                if (batch.size() == BATCH_SIZE) {
+                    long written = flush(batch, errors);
+                    imported += written;
+                    rejected += batch.size() - written;
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            long written = flush(batch, errors);
+            imported += written;
+            rejected += batch.size() - written;
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        StudentImportReport report = new StudentImportReport(rows, imported, rejected, List.copyOf(errors), elapsed);
+        log.info("Imported {} of {} students in {} ms ({} rows/s)",
+                imported, rows, elapsed.toMillis(), report.rowsPerSecond());
+        if (imported > 0) {
+            events.publishEvent(new DomainChangeEvent(Type.STUDENT, null));
+        }
+        return report;
+    }
+
+    private Map<String, Integer> readHeader(List<String> header) {
+        if (header == null) {
+            throw new IllegalArgumentException("The file is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(normalize(header.get(i)), i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(c -> !columns.containsKey(c)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Missing columns: " + String.join(", ", missing));
+        }
+        return columns;
+    }
+
+    private StudentRow parse(List<String> record, Map<String, Integer> columns, long line) {
+        String studentId = required(record, columns, "studentid", "Student ID is required");
+        String firstName = required(record, columns, "firstname", "First name is required");
+        String lastName = required(record, columns, "lastname", "Last name is required");
+        String email = required(record, columns, "email", "Email is required");
+        if (emailValidator.apply(email, new ValueContext()).isError()) {
+            throw new IllegalArgumentException("Invalid email format");
+        }
+
+        String status = value(record, columns, "status");
+        StudentStatus studentStatus;
+        try {
+            studentStatus = status != null ? StudentStatus.valueOf(status.toUpperCase(Locale.ROOT)) : null;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown status '" + status + "'");
+        }
+
+        return new StudentRow(line, studentId, firstName, lastName, email, value(record, columns, "phone"), studentStatus,
+                date(record, columns, "enrollmentdate"), date(record, columns, "graduationdate"));
+    }
+
+    /**
+     * Inserts one batch in its own transaction. If the batch fails (for example a student was
+     * added concurrently), every row in it is reported and the import carries on.
+     */
+    private long flush(List<StudentRow> batch, List<RowError> errors) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Iterator<Long> ids = allocateIds(batch.size()).iterator();
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, row) -> {
+                    ps.setLong(1, ids.next());
+                    ps.setString(2, row.studentId());
+                    ps.setString(3, row.firstName());
+                    ps.setString(4, row.lastName());
+                    ps.setString(5, row.email());
+                    ps.setString(6, row.phone());
+                    ps.setString(7, row.status() != null ? row.status().name() : null);
+                    setDate(ps, 8, row.enrollmentDate());
+                    setDate(ps, 9, row.graduationDate());
+                    ps.setTimestamp(10, now);
+                    ps.setTimestamp(11, now);
+                });
+            });
+            return batch.size();
+        } catch (DataAccessException e) {
+            log.warn("Student import batch of {} rows failed", batch.size(), e);
+            String message = "Batch rejected by the database: " + e.getMostSpecificCause().getMessage();
+            batch.forEach(row -> addError(errors, new RowError(row.line(), row.studentId(), message)));
+            return 0;
+        }
+    }
+
+    /**
+     * Reserves ids the same way Hibernate's pooled-lo optimizer does, so imported rows and
+     * entities saved through JPA never collide: each sequence value starts a block of
+     * {@link #ID_BLOCK_SIZE} ids.
+     */
+    private List<Long> allocateIds(int count) {
+        int blocks = (count + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE;
+        List<Long> starts = jdbcTemplate.queryForList(
+                "select nextval('student_seq') from generate_series(1, ?)", Long.class, blocks);
+        List<Long> ids = new ArrayList<>(blocks * ID_BLOCK_SIZE);
+        for (long start : starts) {
+            for (int i = 0; i < ID_BLOCK_SIZE; i++) {
+                ids.add(start + i);
+            }
+        }
+        return ids;
+    }
+
+    private static void setDate(PreparedStatement ps, int index, LocalDate date) throws SQLException {
+        if (date != null) {
+            ps.setDate(index, Date.valueOf(date));
+        } else {
+            ps.setNull(index, Types.DATE);
+        }
+    }
+
+    private static void addError(List<RowError> errors, RowError error) {
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(error);
+        }
+    }
+
+    private static String required(List<String> record, Map<String, Integer> columns, String column, String message) {
+        String value = value(record, columns, column);
+        if (value == null) {
+            throw new IllegalArgumentException(message);
+        }
+        return value;
+    }
+
+    private static LocalDate date(List<String> record, Map<String, Integer> columns, String column) {
+        String value = value(record, columns, column);
+        try {
+            return value != null ? LocalDate.parse(value) : null;
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date '" + value + "', expected yyyy-MM-dd");
+        }
+    }
+
+    private static String value(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String normalize(String header) {
+        return header.replaceAll("[^A-Za-z0-9]", "").toLowerCase(Locale.ROOT);
+    }
+
+    private record StudentRow(long line, String studentId, String firstName, String lastName, String email, String phone,
+                              StudentStatus status, LocalDate enrollmentDate, LocalDate graduationDate) {
+    }
+}
@@ -0,0 +1,19 @@
+package nibm.project.campus_office.imports;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of one CSV import. {@code errors} is capped at {@link StudentCsvImporter#MAX_REPORTED_ERRORS};
+ * {@code rejected} always holds the full count.
+ */
+public record StudentImportReport(long rows, long imported, long rejected, List<RowError> errors, Duration elapsed) {
+
+    public long rowsPerSecond() {
+        long millis = Math.max(1, elapsed.toMillis());
+        return rows * 1000 / millis;
+    }
+
+    public record RowError(long line, String studentId, String message) {
+    }
+}
@@ -0,0 +1,102 @@
+package nibm.project.campus_office.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times every call into a Spring Data repository or an application {@code @Service}:
+ * <ul>
+ *     <li>{@code campus.repository} and {@code campus.service} timers, tagged with the class,
+ *     method and outcome; histogram buckets are enabled under
+ *     {@code management.metrics.distribution}, so percentiles are computed by Prometheus</li>
+ *     <li>{@code campus.repository.rows}, the number of rows a repository call returned, for
+ *     results that can be counted without consuming them (collections, pages, optionals)</li>
+ * </ul>
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class MethodTimingAspect {
+
+    private static final String BASE_PACKAGE = "nibm.project.campus_office";
+
+    private final MeterRegistry registry;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repository = repositoryName(joinPoint);
+        String method = joinPoint.getSignature().getName();
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = "error";
+        try {
+            Object result = joinPoint.proceed();
+            outcome = "success";
+            recordRows(repository, method, result);
+            return result;
+        } finally {
+            sample.stop(Timer.builder("campus.repository")
+                    .tags("repository", repository, "method", method, "outcome", outcome)
+                    .register(registry));
+        }
+    }
+
+    @Around("@within(org.springframework.stereotype.Service) && within(nibm.project.campus_office..*)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = "error";
+        try {
+            Object result = joinPoint.proceed();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(Timer.builder("campus.service")
+                    .tags("service", joinPoint.getSignature().getDeclaringType().getSimpleName(),
+                            "method", joinPoint.getSignature().getName(),
+                            "outcome", outcome)
+                    .register(registry));
+        }
+    }
+
+    private void recordRows(String repository, String method, Object result) {
+        long rows;
+        if (result instanceof Collection<?> collection) {
+            rows = collection.size();
+        } else if (result instanceof Slice<?> slice) {
+            rows = slice.getNumberOfElements();
+        } else if (result instanceof Optional<?> optional) {
+            rows = optional.isPresent() ? 1 : 0;
+        } else {
+            return;
+        }
+        DistributionSummary.builder("campus.repository.rows")
+                .tags("repository", repository, "method", method)
+                .register(registry)
+                .record(rows);
+    }
+
+    // Inherited methods such as findAll are declared on JpaRepository; name the application interface instead
+    private String repositoryName(ProceedingJoinPoint joinPoint) {
+        return repositoryNames.computeIfAbsent(joinPoint.getThis().getClass(), proxyClass -> {
+            for (Class<?> type : AopProxyUtils.proxiedUserInterfaces(joinPoint.getThis())) {
+                if (type.getName().startsWith(BASE_PACKAGE)) {
+                    return type.getSimpleName();
+                }
+            }
+            return joinPoint.getSignature().getDeclaringType().getSimpleName();
+        });
+    }
+}
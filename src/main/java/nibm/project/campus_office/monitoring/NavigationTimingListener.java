@@ -0,0 +1,121 @@
+package nibm.project.campus_office.monitoring;
+
+import com.vaadin.flow.router.AfterNavigationEvent;
+import com.vaadin.flow.router.AfterNavigationListener;
+import com.vaadin.flow.router.BeforeEnterEvent;
+import com.vaadin.flow.router.BeforeEnterListener;
+import com.vaadin.flow.server.ServiceInitEvent;
+import com.vaadin.flow.server.VaadinServiceInitListener;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Times every navigation from the UI's {@code BeforeEnter} until the target view has been
+ * constructed and attached, which is where the list views load their grids and the dashboard
+ * runs its aggregates:
+ * <ul>
+ *     <li>{@code campus.navigation}, a timer tagged with the route and the user's role</li>
+ *     <li>{@code campus.navigation.statements}, the SQL statements the navigation issued</li>
+ * </ul>
+ * Navigations slower than {@code campus.navigation.slow-threshold} are logged at WARN with
+ * their statement count.
+ */
+@Slf4j
+@Component
+public class NavigationTimingListener implements VaadinServiceInitListener {
+
+    private final MeterRegistry registry;
+    private final Duration slowThreshold;
+
+    public NavigationTimingListener(MeterRegistry registry,
+                                    @Value("${campus.navigation.slow-threshold:PT0.5S}") Duration slowThreshold) {
+        this.registry = registry;
+        this.slowThreshold = slowThreshold;
+    }
+
+    @Override
+    public void serviceInit(ServiceInitEvent event) {
+        event.getSource().addUIInitListener(uiEvent -> {
+            NavigationTiming timing = timing();
+            uiEvent.getUI().addBeforeEnterListener(timing);
+            uiEvent.getUI().addAfterNavigationListener(timing);
+        });
+    }
+
+    NavigationTiming timing() {
+        return new NavigationTiming();
+    }
+
+    private void record(String route, long elapsedNanos, long statements) {
+        String role = currentRole();
+        Timer.builder("campus.navigation")
+                .tags("route", route, "role", role)
+                .register(registry)
+                .record(Duration.ofNanos(elapsedNanos));
+        DistributionSummary.builder("campus.navigation.statements")
+                .tags("route", route)
+                .register(registry)
+                .record(statements);
+
+        Duration elapsed = Duration.ofNanos(elapsedNanos);
+        if (elapsed.compareTo(slowThreshold) >= 0) {
+            log.warn("Slow navigation to {} ({} ms, {} SQL statements, role {})",
+                    route, elapsed.toMillis(), statements, role);
+        }
+    }
+
+    private static String currentRole() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return "anonymous";
+        }
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority.startsWith("ROLE_"))
+                .map(authority -> authority.substring("ROLE_".length()))
+                .findFirst()
+                .orElse("anonymous");
+    }
+
+    /**
+     * One per UI. Listeners of a UI run under its session lock, so the fields need no
+     * synchronization. Every {@code BeforeEnter} starts the clock again: a navigation that was
+     * postponed or failed before rendering never reaches {@code AfterNavigation}, and must not
+     * leave its start behind for the next one. A reroute or forward is therefore timed from its
+     * final target.
+     */
+    final class NavigationTiming implements BeforeEnterListener, AfterNavigationListener {
+
+        private boolean inProgress;
+        private long startNanos;
+        private long startStatements;
+        private String route;
+
+        @Override
+        public void beforeEnter(BeforeEnterEvent event) {
+            inProgress = true;
+            startNanos = System.nanoTime();
+            startStatements = SqlStatementListener.statementsOnCurrentThread();
+            route = event.getNavigationTarget().getSimpleName();
+        }
+
+        @Override
+        public void afterNavigation(AfterNavigationEvent event) {
+            if (!inProgress) {
+                return;
+            }
+            inProgress = false;
+            record(route, System.nanoTime() - startNanos,
+                    SqlStatementListener.statementsOnCurrentThread() - startStatements);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package nibm.project.campus_office.monitoring;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import nibm.project.campus_office.service.OverduePaymentSweeper;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the counters {@link OverduePaymentSweeper} already keeps, so sweep volume can be
+ * graphed next to the repository timers. Chunk latency is the sweeper's own
+ * {@code campus.overdue.sweep.chunk} timer.
+ */
+@Component
+@RequiredArgsConstructor
+public class OverdueSweepMetrics implements MeterBinder {
+
+    private final OverduePaymentSweeper sweeper;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("campus.overdue.sweep.runs", sweeper, s -> s.getStats().runs())
+                .description("Completed overdue sweeps")
+                .register(registry);
+        FunctionCounter.builder("campus.overdue.sweep.rows", sweeper, s -> s.getStats().rowsProcessed())
+                .description("Payments marked overdue")
+                .register(registry);
+    }
+}
@@ -0,0 +1,81 @@
+package nibm.project.campus_office.monitoring;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Aggregates executed statements by fingerprint: the SQL with literals and bind markers
+ * collapsed, so {@code where id = 1} and {@code where id = 2}, or IN lists of any length,
+ * count as the same query. The number of distinct fingerprints is capped; anything past the
+ * cap is counted under {@value #OVERFLOW}.
+ */
+@Component
+public class SqlFingerprints {
+
+    static final String OVERFLOW = "(other statements)";
+    private static final int MAX_FINGERPRINTS = 1_000;
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern MARKER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<String, Stats> statements = new ConcurrentHashMap<>();
+
+    public static String fingerprint(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = MARKER_LIST.matcher(normalized).replaceAll("(?)");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    public void record(String sql, long elapsedNanos) {
+        String fingerprint = fingerprint(sql);
+        Stats stats = statements.get(fingerprint);
+        if (stats == null) {
+            stats = statements.size() < MAX_FINGERPRINTS
+                    ? statements.computeIfAbsent(fingerprint, key -> new Stats())
+                    : statements.computeIfAbsent(OVERFLOW, key -> new Stats());
+        }
+        stats.count.increment();
+        stats.totalNanos.add(elapsedNanos);
+        stats.maxNanos.accumulate(elapsedNanos);
+    }
+
+    /**
+     * The {@code limit} statements with the highest total execution time.
+     */
+    public List<Entry> top(int limit) {
+        return statements.entrySet().stream()
+                .map(e -> e.getValue().toEntry(e.getKey()))
+                .sorted(Comparator.comparingDouble(Entry::totalMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public void reset() {
+        statements.clear();
+    }
+
+    private static final class Stats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private Entry toEntry(String fingerprint) {
+            long calls = count.sum();
+            double totalMillis = totalNanos.sum() / 1e6;
+            return new Entry(fingerprint, calls, totalMillis, calls == 0 ? 0 : totalMillis / calls, maxNanos.get() / 1e6);
+        }
+    }
+
+    public record Entry(String statement, long calls, double totalMillis, double meanMillis, double maxMillis) {
+    }
+}
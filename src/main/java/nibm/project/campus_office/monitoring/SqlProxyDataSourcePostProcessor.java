@@ -0,0 +1,35 @@
+package nibm.project.campus_office.monitoring;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application {@link DataSource} in a datasource-proxy that reports every statement
+ * to {@link SqlStatementListener}. The proxy unwraps to the Hikari pool, so pool metrics and
+ * Flyway see the real data source.
+ */
+@Component
+public class SqlProxyDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<SqlStatementListener> listener;
+
+    public SqlProxyDataSourcePostProcessor(ObjectProvider<SqlStatementListener> listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+            return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(listener.getObject())
+                    .build();
+        }
+        return bean;
+    }
+}
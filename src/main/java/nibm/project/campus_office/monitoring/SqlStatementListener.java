@@ -0,0 +1,138 @@
+package nibm.project.campus_office.monitoring;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import nibm.project.campus_office.monitoring.jfr.SqlStatementEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Replaces {@code show-sql}. Every statement is added to {@link SqlFingerprints}; statements
+ * slower than {@code campus.sql.slow-threshold} are logged at WARN with their bind parameters
+ * and the application frame that issued them, and a {@code campus.sql.sample-rate} fraction of
+ * the rest is logged at INFO the same way. Statements on a password column are logged with
+ * their values masked. It also keeps a running count of statements per thread, so
+ * request-scoped instrumentation can tell how many statements a piece of work issued.
+ */
+@Slf4j
+@Component
+public class SqlStatementListener implements QueryExecutionListener {
+
+    private static final String APPLICATION_PACKAGE = "nibm.project.campus_office.";
+    private static final String MONITORING_PACKAGE = "nibm.project.campus_office.monitoring.";
+    // Statements on these columns (password hashes) are logged without their bind values
+    private static final Pattern SENSITIVE_COLUMN = Pattern.compile("\\bpassword\\b", Pattern.CASE_INSENSITIVE);
+    private static final String MASK = "***";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    private static final ThreadLocal<long[]> STATEMENTS_ON_THREAD = ThreadLocal.withInitial(() -> new long[1]);
+    private static final ThreadLocal<SqlStatementEvent> STATEMENT_EVENT = new ThreadLocal<>();
+    // datasource-proxy's own elapsed time is in whole milliseconds, which rounds most statements to 0
+    private static final ThreadLocal<long[]> STARTED_AT = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final SqlFingerprints fingerprints;
+    private final long slowThresholdNanos;
+    private final double sampleRate;
+
+    public SqlStatementListener(SqlFingerprints fingerprints,
+                                @Value("${campus.sql.slow-threshold:PT0.25S}") Duration slowThreshold,
+                                @Value("${campus.sql.sample-rate:0}") double sampleRate) {
+        this.fingerprints = fingerprints;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Statements executed on the current thread so far. The count only grows; callers take
+     * the difference between two readings.
+     */
+    public static long statementsOnCurrentThread() {
+        return STATEMENTS_ON_THREAD.get()[0];
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlStatementEvent event = new SqlStatementEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            STATEMENT_EVENT.set(event);
+        }
+        STARTED_AT.get()[0] = System.nanoTime();
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedNanos = System.nanoTime() - STARTED_AT.get()[0];
+        STATEMENTS_ON_THREAD.get()[0] += queryInfoList.size();
+        commitEvent(queryInfoList);
+        // A statement batch is timed as a whole; spread the time over its statements
+        long nanosPerQuery = elapsedNanos / Math.max(1, queryInfoList.size());
+        for (QueryInfo query : queryInfoList) {
+            fingerprints.record(query.getQuery(), nanosPerQuery);
+        }
+
+        if (elapsedNanos >= slowThresholdNanos) {
+            log.warn("Slow SQL ({} ms) from {}: {}", millis(elapsedNanos), caller(), describe(queryInfoList));
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate && log.isInfoEnabled()) {
+            log.info("SQL ({} ms) from {}: {}", millis(elapsedNanos), caller(), describe(queryInfoList));
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1e6);
+    }
+
+    private static void commitEvent(List<QueryInfo> queryInfoList) {
+        SqlStatementEvent event = STATEMENT_EVENT.get();
+        if (event == null) {
+            return;
+        }
+        STATEMENT_EVENT.remove();
+        event.end();
+        if (event.shouldCommit() && !queryInfoList.isEmpty()) {
+            event.fingerprint = SqlFingerprints.fingerprint(queryInfoList.get(0).getQuery());
+            event.batchSize = Math.max(queryInfoList.size(), queryInfoList.get(0).getParametersList().size());
+            event.commit();
+        }
+    }
+
+    private static String caller() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE)
+                        && !frame.getClassName().startsWith(MONITORING_PACKAGE))
+                .findFirst()
+                .map(frame -> frame.getClassName().substring(APPLICATION_PACKAGE.length())
+                        + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                .orElse("(framework)"));
+    }
+
+    private static String describe(List<QueryInfo> queries) {
+        return queries.stream().map(SqlStatementListener::describe).collect(Collectors.joining("; "));
+    }
+
+    private static String describe(QueryInfo query) {
+        List<List<ParameterSetOperation>> parameterSets = query.getParametersList();
+        if (parameterSets.isEmpty()) {
+            return query.getQuery();
+        }
+        // Bind positions are not tied to column names here, so every value of such a statement is masked
+        boolean sensitive = SENSITIVE_COLUMN.matcher(query.getQuery()).find();
+        String first = parameterSets.get(0).stream()
+                .map(operation -> sensitive ? MASK
+                        : operation.getArgs().length > 1 ? String.valueOf(operation.getArgs()[1])
+                        : Arrays.toString(operation.getArgs()))
+                .collect(Collectors.joining(", ", "[", "]"));
+        String more = parameterSets.size() > 1 ? " (+" + (parameterSets.size() - 1) + " more in batch)" : "";
+        return query.getQuery() + " " + first + more;
+    }
+}
@@ -0,0 +1,34 @@
+package nibm.project.campus_office.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * {@code /actuator/sqltop}: the most expensive statement fingerprints by total time since
+ * start-up or the last reset ({@code DELETE /actuator/sqltop}).
+ */
+@Component
+@Endpoint(id = "sqltop")
+@RequiredArgsConstructor
+public class SqlTopEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final SqlFingerprints fingerprints;
+
+    @ReadOperation
+    public List<SqlFingerprints.Entry> top(@Nullable Integer limit) {
+        return fingerprints.top(limit != null ? limit : DEFAULT_LIMIT);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        fingerprints.reset();
+    }
+}
@@ -0,0 +1,73 @@
+package nibm.project.campus_office.monitoring.jfr;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.time.Duration;
+
+/**
+ * Keeps a JFR recording running for the life of the application with the JDK's low-overhead
+ * {@code default} settings plus the campus events. JFR discards chunks older than
+ * {@code campus.jfr.max-age} or beyond {@code campus.jfr.max-size}, so the recording always
+ * holds the most recent window and can be dumped after a stall for analysis in JMC.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "campus.jfr.enabled", havingValue = "true", matchIfMissing = true)
+public class ContinuousRecording {
+
+    private final Duration maxAge;
+    private final DataSize maxSize;
+    private Recording recording;
+
+    public ContinuousRecording(@Value("${campus.jfr.max-age:PT6H}") Duration maxAge,
+                               @Value("${campus.jfr.max-size:250MB}") DataSize maxSize) {
+        this.maxAge = maxAge;
+        this.maxSize = maxSize;
+    }
+
+    @PostConstruct
+    void start() throws IOException, ParseException {
+        recording = new Recording(Configuration.getConfiguration("default"));
+        recording.setName("campus-office");
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.setMaxSize(maxSize.toBytes());
+        recording.start();
+        log.info("Continuous JFR recording started (max age {}, max size {})", maxAge, maxSize);
+    }
+
+    /**
+     * Dumps the recorded window to a temporary file of its own and opens it. The file is
+     * deleted when the stream is closed, so concurrent downloads never share or remove each
+     * other's dump.
+     */
+    public InputStream openDump() throws IOException {
+        Path target = Files.createTempFile("campus-office-", ".jfr");
+        try {
+            recording.dump(target);
+            return Files.newInputStream(target, StandardOpenOption.DELETE_ON_CLOSE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(target);
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        recording.close();
+    }
+}
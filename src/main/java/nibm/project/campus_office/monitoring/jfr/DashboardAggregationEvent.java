@@ -0,0 +1,19 @@
+package nibm.project.campus_office.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("campus.DashboardAggregation")
+@Label("Dashboard Aggregation")
+@Category({"Campus Office", "Dashboard"})
+@Description("One dashboard section computed by DashboardStatsService")
+public class DashboardAggregationEvent extends SqlCorrelatedEvent {
+
+    @Label("Section")
+    public String section;
+
+    @Label("Rows")
+    public int rows;
+}
@@ -0,0 +1,28 @@
+package nibm.project.campus_office.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("campus.GridFetch")
+@Label("Grid Fetch")
+@Category({"Campus Office", "Views"})
+@Description("One page of rows fetched by a lazy-loading grid")
+public class GridFetchEvent extends SqlCorrelatedEvent {
+
+    @Label("Grid")
+    public String grid;
+
+    @Label("Offset")
+    public int offset;
+
+    @Label("Limit")
+    public int limit;
+
+    @Label("Sort")
+    public String sort;
+
+    @Label("Rows")
+    public int rows;
+}
@@ -0,0 +1,30 @@
+package nibm.project.campus_office.monitoring.jfr;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * {@code /actuator/jfr}: downloads the current window of the {@link ContinuousRecording} as a
+ * {@code .jfr} file for JDK Mission Control.
+ */
+@Component
+@WebEndpoint(id = "jfr")
+@ConditionalOnProperty(name = "campus.jfr.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JfrDumpEndpoint {
+
+    private final ContinuousRecording recording;
+
+    @ReadOperation(produces = "application/octet-stream")
+    public Resource dump() throws IOException {
+        // Closing the stream after the response is written deletes the dump
+        return new InputStreamResource(recording.openDump());
+    }
+}
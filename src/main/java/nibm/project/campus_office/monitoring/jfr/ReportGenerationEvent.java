@@ -0,0 +1,25 @@
+package nibm.project.campus_office.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("campus.ReportGeneration")
+@Label("Student Report Generation")
+@Category({"Campus Office", "Reports"})
+@Description("Rendering of one student PDF report, from loading the student to the last byte written")
+public class ReportGenerationEvent extends SqlCorrelatedEvent {
+
+    @Label("Student Id")
+    public long studentId;
+
+    @Label("Rows")
+    @Description("Enrollment, payment and interaction rows rendered")
+    public int rows;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+}
@@ -0,0 +1,29 @@
+package nibm.project.campus_office.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("campus.ServiceSave")
+@Label("Service Save")
+@Category({"Campus Office", "Services"})
+@Description("A save or delete through an application service, including its transaction commit")
+public class ServiceSaveEvent extends SqlCorrelatedEvent {
+
+    @Label("Service")
+    public String service;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Entity")
+    public String entity;
+
+    @Label("Entity Id")
+    @Description("Id of the saved entity, or 0 when unknown")
+    public long entityId;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
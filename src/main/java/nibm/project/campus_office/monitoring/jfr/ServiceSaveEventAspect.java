@@ -0,0 +1,54 @@
+package nibm.project.campus_office.monitoring.jfr;
+
+import nibm.project.campus_office.entity.BaseEntity;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records a {@link ServiceSaveEvent} for every {@code save*} and {@code delete*} call on an
+ * application service. Runs outside the transaction advice, so the event spans the commit and
+ * counts the statements Hibernate flushes there.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceSaveEventAspect {
+
+    @Around("@within(org.springframework.stereotype.Service) && within(nibm.project.campus_office.service..*)"
+            + " && (execution(* save*(..)) || execution(* delete*(..)))")
+    public Object recordSave(ProceedingJoinPoint joinPoint) throws Throwable {
+        ServiceSaveEvent event = new ServiceSaveEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        event.method = joinPoint.getSignature().getName();
+        event.start();
+        Object result = null;
+        try {
+            result = joinPoint.proceed();
+            event.succeeded = true;
+            return result;
+        } finally {
+            BaseEntity entity = result instanceof BaseEntity saved ? saved : firstEntity(joinPoint.getArgs());
+            if (entity != null) {
+                event.entity = entity.getClass().getSimpleName();
+                event.entityId = entity.getId() != null ? entity.getId() : 0;
+            }
+            event.finish();
+        }
+    }
+
+    private static BaseEntity firstEntity(Object[] args) {
+        for (Object arg : args) {
+            if (arg instanceof BaseEntity entity) {
+                return entity;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,41 @@
+package nibm.project.campus_office.monitoring.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import nibm.project.campus_office.monitoring.SqlStatementListener;
+
+/**
+ * Base for the campus events that wrap a unit of work: besides JFR's own thread and time
+ * span, each records how many SQL statements the work issued on its thread, so it can be
+ * lined up with the {@link SqlStatementEvent}s and {@code /actuator/sqltop}.
+ */
+@StackTrace(false)
+public abstract class SqlCorrelatedEvent extends Event {
+
+    @Label("SQL Statements")
+    @Description("Statements executed on this thread between begin and end")
+    public long sqlStatements;
+
+    private transient long statementsAtBegin;
+
+    /**
+     * Starts the timer and takes the first statement-count reading. Pair with {@link #finish()}.
+     */
+    public void start() {
+        statementsAtBegin = SqlStatementListener.statementsOnCurrentThread();
+        begin();
+    }
+
+    /**
+     * Stops the timer and commits the event if it passes the recording's threshold.
+     */
+    public void finish() {
+        end();
+        if (shouldCommit()) {
+            sqlStatements = SqlStatementListener.statementsOnCurrentThread() - statementsAtBegin;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package nibm.project.campus_office.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("campus.SqlStatement")
+@Label("SQL Statement")
+@Category({"Campus Office", "SQL"})
+@Description("A JDBC statement or batch slower than the threshold; the other campus events on the same thread and time span issued it")
+@Threshold("20 ms")
+@StackTrace(false)
+public class SqlStatementEvent extends Event {
+
+    @Label("Fingerprint")
+    @Description("Statement with literals and bind markers collapsed, as reported by /actuator/sqltop")
+    public String fingerprint;
+
+    @Label("Batch Size")
+    public int batchSize;
+}
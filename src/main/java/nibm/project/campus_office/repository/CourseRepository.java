@@ -1,12 +1,25 @@
 package nibm.project.campus_office.repository;
 
+import jakarta.persistence.QueryHint;
 import nibm.project.campus_office.entity.Course;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CourseRepository extends JpaRepository<Course, Long> {
+    List<Course> findAllBy(Pageable pageable);
+
+    // Form dropdowns; served from the query and entity caches until a course changes
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Course> findAll();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Course> findByCourseCode(String courseCode);
 }
\ No newline at end of file
@@ -1,13 +1,66 @@
 package nibm.project.campus_office.repository;
 
+import jakarta.persistence.QueryHint;
+import nibm.project.campus_office.dto.EnrollmentRow;
 import nibm.project.campus_office.entity.Enrollment;
 import nibm.project.campus_office.entity.Student;
+import nibm.project.campus_office.enums.EnrollmentStatus;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
+    List<Enrollment> findAllBy(Pageable pageable);
+
+    String ROWS_QUERY = "select new nibm.project.campus_office.dto.EnrollmentRow(e.id, concat(s.firstName, ' ', s.lastName), " +
+            "c.title, e.enrollmentDate, e.status, e.grade, e.completionDate) " +
+            "from Enrollment e join e.student s join e.course c";
+
+    @Query(ROWS_QUERY)
+    List<EnrollmentRow> findRowsBy(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(ROWS_QUERY + " order by e.id")
+    Stream<EnrollmentRow> streamRowsBy();
+
     List<Enrollment> findByStudent(Student student);
-}
\ No newline at end of file
+
+    // Committed seat state of an enrollment, independent of any edited copy held by a form
+    @Query("select e.course.id as courseId, e.status as status from Enrollment e where e.id = :id")
+    Optional<SeatHolder> findSeatHolderById(@Param("id") Long id);
+
+    /**
+     * Oldest waitlisted enrollment of a course, locked for promotion. Rows already locked by
+     * another transaction are skipped rather than waited on.
+     */
+    @Query(value = "select * from enrollments where course_id = :courseId and status = 'WAITLISTED' " +
+            "order by created_at, id limit 1 for update skip locked", nativeQuery = true)
+    Optional<Enrollment> findNextWaitlisted(@Param("courseId") Long courseId);
+
+    List<Enrollment> findTop5ByEnrollmentDateIsNotNullOrderByEnrollmentDateDesc();
+
+    @Query("select e.status as status, count(e) as total from Enrollment e " +
+            "where e.status is not null group by e.status")
+    List<StatusCount> countGroupedByStatus();
+
+    interface SeatHolder {
+        Long getCourseId();
+
+        EnrollmentStatus getStatus();
+    }
+
+    interface StatusCount {
+        EnrollmentStatus getStatus();
+
+        Long getTotal();
+    }
+}
@@ -1,9 +1,50 @@
 package nibm.project.campus_office.repository;
 
+import jakarta.persistence.QueryHint;
 import nibm.project.campus_office.entity.Instructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Repository
 public interface InstructorRepository extends JpaRepository<Instructor, Long> {
+    List<Instructor> findAllBy(Pageable pageable);
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Instructor> findAll();
+
+    @Query("select i.id from Instructor i")
+    List<Long> findIdsBy(Pageable pageable);
+
+    @EntityGraph(Instructor.COURSES_GRAPH)
+    List<Instructor> findWithCoursesByIdIn(Collection<Long> ids);
+
+    @EntityGraph(Instructor.COURSES_GRAPH)
+    Optional<Instructor> findWithCoursesById(Long id);
+
+    /**
+     * Loads one page of instructors with their courses in two statements: the page of ids is
+     * resolved first, so the collection fetch join never has to paginate in memory.
+     */
+    default List<Instructor> findPageWithCourses(Pageable pageable) {
+        List<Long> ids = findIdsBy(pageable);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Instructor> byId = findWithCoursesByIdIn(ids).stream()
+                .collect(Collectors.toMap(Instructor::getId, Function.identity()));
+        return ids.stream().map(byId::get).toList();
+    }
 }
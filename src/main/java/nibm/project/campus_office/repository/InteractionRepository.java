@@ -1,9 +1,61 @@
 package nibm.project.campus_office.repository;
 
+import jakarta.persistence.QueryHint;
+import nibm.project.campus_office.dto.InteractionRow;
 import nibm.project.campus_office.entity.Interaction;
+import nibm.project.campus_office.entity.Student;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface InteractionRepository extends JpaRepository<Interaction, Long> {
+    List<Interaction> findAllBy(Pageable pageable);
+
+    String ROWS_QUERY = "select new nibm.project.campus_office.dto.InteractionRow(i.id, concat(s.firstName, ' ', s.lastName), " +
+            "i.type, i.subject, i.interactionDate, i.contactedBy) " +
+            "from Interaction i join i.student s";
+
+    @Query(ROWS_QUERY)
+    List<InteractionRow> findRowsBy(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(ROWS_QUERY + " order by i.id")
+    Stream<InteractionRow> streamRowsBy();
+
+    /**
+     * First page of a student's timeline, newest first. Interactions without a date are not
+     * part of the timeline.
+     */
+    @Query("select i from Interaction i where i.student = :student and i.interactionDate is not null " +
+            "order by i.interactionDate desc, i.id desc")
+    List<Interaction> findLatestByStudent(@Param("student") Student student, Limit limit);
+
+    /**
+     * Next timeline page after the row ({@code date}, {@code id}) the caller saw last. Seeks
+     * through {@code idx_interactions_student_timeline} instead of skipping an offset, so every
+     * page costs the same however deep the history goes.
+     */
+    @Query("select i from Interaction i where i.student = :student " +
+            "and (i.interactionDate < :date or (i.interactionDate = :date and i.id < :id)) " +
+            "order by i.interactionDate desc, i.id desc")
+    List<Interaction> findByStudentAndInteractionDateBefore(@Param("student") Student student,
+                                                            @Param("date") LocalDateTime date,
+                                                            @Param("id") Long id,
+                                                            Limit limit);
+
+    @EntityGraph(attributePaths = "student")
+    @Query("select i from Interaction i where i.interactionDate is not null " +
+            "order by i.interactionDate desc, i.id desc")
+    List<Interaction> findLatest(Limit limit);
 }
@@ -1,9 +1,62 @@
 package nibm.project.campus_office.repository;
 
+import jakarta.persistence.QueryHint;
+import nibm.project.campus_office.dto.PaymentRow;
 import nibm.project.campus_office.entity.Payment;
+import nibm.project.campus_office.enums.PaymentStatus;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
+
+    List<Payment> findAllBy(Pageable pageable);
+
+    String ROWS_QUERY = "select new nibm.project.campus_office.dto.PaymentRow(p.id, concat(s.firstName, ' ', s.lastName), " +
+            "p.amount, p.paymentDate, p.dueDate, p.status, p.method, p.transactionId) " +
+            "from Payment p join p.student s";
+
+    @Query(ROWS_QUERY)
+    List<PaymentRow> findRowsBy(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(ROWS_QUERY + " order by p.id")
+    Stream<PaymentRow> streamRowsBy();
+
+    List<Payment> findTop5ByPaymentDateIsNotNullOrderByPaymentDateDesc();
+
+    /**
+     * Served by {@code idx_payments_status_due_date}; callers change the status of every row
+     * they get back, so repeated calls walk through the backlog without an offset.
+     */
+    @EntityGraph(attributePaths = "student")
+    List<Payment> findByStatusAndDueDateBeforeOrderByDueDateAsc(PaymentStatus status, LocalDate date, Limit limit);
+
+    @Query("select p.student.id from Payment p where p.id = :id")
+    Optional<Long> findStudentIdById(@Param("id") Long id);
+
+    @Query("select p.status as status, count(p) as total, sum(p.amount) as amount from Payment p " +
+            "where p.status is not null group by p.status")
+    List<StatusTotal> sumGroupedByStatus();
+
+    interface StatusTotal {
+        PaymentStatus getStatus();
+
+        Long getTotal();
+
+        BigDecimal getAmount();
+    }
 }
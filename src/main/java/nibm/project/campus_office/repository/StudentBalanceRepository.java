@@ -0,0 +1,78 @@
+package nibm.project.campus_office.repository;
+
+import jakarta.persistence.QueryHint;
+import nibm.project.campus_office.entity.StudentBalance;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface StudentBalanceRepository extends JpaRepository<StudentBalance, Long> {
+    Optional<StudentBalance> findByStudentId(Long studentId);
+
+    /**
+     * Recomputes one student's balance from their payments and upserts it in a single
+     * statement, so concurrent refreshes for the same student cannot race. The native-spaces
+     * hint tells Hibernate only {@code student_balances} changed; without it every native update
+     * clears the whole second-level and query cache.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "student_balances"))
+    @Query(nativeQuery = true, value = """
+            insert into student_balances (student_id, pending_amount, paid_amount, overdue_amount, refunded_amount,
+                                          next_due_date, active, created_at, updated_at)
+            select :studentId,
+                   coalesce(sum(p.amount) filter (where p.status = 'PENDING'), 0),
+                   coalesce(sum(p.amount) filter (where p.status = 'PAID'), 0),
+                   coalesce(sum(p.amount) filter (where p.status = 'OVERDUE'), 0),
+                   coalesce(sum(p.amount) filter (where p.status = 'REFUNDED'), 0),
+                   min(p.due_date) filter (where p.status = 'PENDING'),
+                   true, now(), now()
+            from payments p
+            where p.student_id = :studentId
+            on conflict (student_id) do update set
+                pending_amount = excluded.pending_amount,
+                paid_amount = excluded.paid_amount,
+                overdue_amount = excluded.overdue_amount,
+                refunded_amount = excluded.refunded_amount,
+                next_due_date = excluded.next_due_date,
+                updated_at = excluded.updated_at
+            """)
+    int refresh(@Param("studentId") Long studentId);
+
+    /**
+     * Set-based variant of {@link #refresh(Long)} for batch jobs. Only students that have at
+     * least one payment get a row, which is always true for students touched by a payment job.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "student_balances"))
+    @Query(nativeQuery = true, value = """
+            insert into student_balances (student_id, pending_amount, paid_amount, overdue_amount, refunded_amount,
+                                          next_due_date, active, created_at, updated_at)
+            select p.student_id,
+                   coalesce(sum(p.amount) filter (where p.status = 'PENDING'), 0),
+                   coalesce(sum(p.amount) filter (where p.status = 'PAID'), 0),
+                   coalesce(sum(p.amount) filter (where p.status = 'OVERDUE'), 0),
+                   coalesce(sum(p.amount) filter (where p.status = 'REFUNDED'), 0),
+                   min(p.due_date) filter (where p.status = 'PENDING'),
+                   true, now(), now()
+            from payments p
+            where p.student_id in (:studentIds)
+            group by p.student_id
+            on conflict (student_id) do update set
+                pending_amount = excluded.pending_amount,
+                paid_amount = excluded.paid_amount,
+                overdue_amount = excluded.overdue_amount,
+                refunded_amount = excluded.refunded_amount,
+                next_due_date = excluded.next_due_date,
+                updated_at = excluded.updated_at
+            """)
+    int refreshAll(@Param("studentIds") Collection<Long> studentIds);
+}
@@ -1,13 +1,64 @@
 package nibm.project.campus_office.repository;
 
+import nibm.project.campus_office.dto.StudentOption;
 import nibm.project.campus_office.entity.Student;
 import nibm.project.campus_office.enums.StudentStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface StudentRepository extends JpaRepository<Student, Long> {
+    List<Student> findAllBy(Pageable pageable);
+
     List<Student> findByStatus(StudentStatus status);
-}
\ No newline at end of file
+
+    long countByStatus(StudentStatus status);
+
+    List<StudentKey> findByStatusOrderByIdAsc(StudentStatus status);
+
+    @EntityGraph(Student.REPORT_GRAPH)
+    Optional<Student> findWithEnrollmentsById(Long id);
+
+    // Arguments are LIKE-escaped by the default methods below; HQL reads '\\' as one backslash
+    @Query("select s from Student s " +
+            "where lower(s.firstName) like lower(concat('%', :filter, '%')) escape '\\\\' " +
+            "or lower(s.lastName) like lower(concat('%', :filter, '%')) escape '\\\\'")
+    List<Student> searchByEscapedName(@Param("filter") String filter, Pageable pageable);
+
+    @Query("select new nibm.project.campus_office.dto.StudentOption(s.id, s.studentId, s.firstName, s.lastName) " +
+            "from Student s " +
+            "where lower(s.firstName) like concat(lower(:prefix), '%') escape '\\\\' " +
+            "or lower(s.lastName) like concat(lower(:prefix), '%') escape '\\\\' " +
+            "or lower(s.studentId) like concat(lower(:prefix), '%') escape '\\\\' " +
+            "order by s.lastName, s.firstName, s.id")
+    List<StudentOption> findOptionsByEscapedPrefix(@Param("prefix") String prefix, Pageable pageable);
+
+    /**
+     * Students whose first or last name contains {@code filter}, ignoring case. {@code %},
+     * {@code _} and {@code \} in the filter match themselves.
+     */
+    default List<Student> searchByName(String filter, Pageable pageable) {
+        return searchByEscapedName(escapeLike(filter), pageable);
+    }
+
+    default List<StudentOption> findOptions(String prefix, Pageable pageable) {
+        return findOptionsByEscapedPrefix(escapeLike(prefix), pageable);
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    interface StudentKey {
+        Long getId();
+
+        String getStudentId();
+    }
+}
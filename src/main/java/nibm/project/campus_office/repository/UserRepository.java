@@ -1,13 +1,17 @@
 package nibm.project.campus_office.repository;
 
 import nibm.project.campus_office.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    List<User> findAllBy(Pageable pageable);
+
     Optional<User> findByUsername(String username);
     Optional<User> findByEmail(String email);
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package nibm.project.campus_office.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Short-lived cache of loaded users in front of {@link UserDetailsServiceImpl}, so repeated
+ * sign-ins skip the user lookup. The password is still checked on every sign-in, and an entry
+ * whose password no longer matches is reloaded by the authentication provider.
+ * <p>
+ * Entries are copied in and out: after a successful sign-in Spring Security erases the
+ * credentials of the principal it returns, which would otherwise blank the cached password.
+ * <p>
+ * The enabled and locked flags are checked against the cached entry. Saving or deleting a
+ * user in the Users view clears the cache, so that takes effect at once. A change made any
+ * other way, directly in the database or on another instance, is only seen once the entry
+ * expires: until then a disabled user can still sign in, for at most
+ * {@code campus.security.user-cache.ttl}.
+ */
+@Component
+public class CaffeineUserCache implements UserCache {
+
+    private final Cache<String, UserDetails> cache;
+
+    public CaffeineUserCache(@Value("${campus.security.user-cache.ttl:PT5M}") Duration ttl,
+                             @Value("${campus.security.user-cache.max-size:5000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        UserDetails user = cache.getIfPresent(username);
+        return user != null ? User.withUserDetails(user).build() : null;
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        cache.put(user.getUsername(), User.withUserDetails(user).build());
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        cache.invalidate(username);
+    }
+
+    /**
+     * Drops every entry; used after user administration, which may rename, disable or re-role
+     * users.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+}
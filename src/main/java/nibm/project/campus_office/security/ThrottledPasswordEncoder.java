@@ -0,0 +1,73 @@
+package nibm.project.campus_office.security;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs password hashing on a small dedicated pool. A login storm then occupies at most
+ * {@code threads} cores with BCrypt, leaving the rest to serve the UI; sign-ins beyond that
+ * wait in a bounded queue, and once the queue is full they are refused with an
+ * {@link AuthenticationServiceException} instead of piling up.
+ */
+public class ThrottledPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+
+    public ThrottledPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity) {
+        this.delegate = delegate;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hash-", 0).daemon().factory());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new AuthenticationServiceException("Too many sign-ins in progress, please try again", e);
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AuthenticationServiceException("Interrupted while checking the password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -1,32 +1,61 @@
 package nibm.project.campus_office.security;
 
-import nibm.project.campus_office.entity.User;
+import lombok.extern.slf4j.Slf4j;
 import nibm.project.campus_office.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private CaffeineUserCache userCache;
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
+        return userRepository.findByUsername(username)
+                .map(user -> User.withUsername(user.getUsername())
+                        .password(user.getPassword())
+                        .authorities("ROLE_" + user.getRole().name())
+                        .accountExpired(false)
+                        .accountLocked(!user.getAccountNonLocked())
+                        .credentialsExpired(false)
+                        .disabled(!user.getEnabled())
+                        .build())
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+    }
 
-        return org.springframework.security.core.userdetails.User
-                .withUsername(user.getUsername())
-                .password(user.getPassword())
-                .authorities("ROLE_" + user.getRole().name())
-                .accountExpired(false)
-                .accountLocked(!user.getAccountNonLocked())
-                .credentialsExpired(false)
-                .disabled(!user.getEnabled())
+    /**
+     * Stores the re-encoded password after a sign-in whose stored hash was outdated (no
+     * encoder prefix, or a lower BCrypt cost than configured). A concurrent edit of the user
+     * wins; the upgrade is simply retried at the next sign-in.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        try {
+            userRepository.findByUsername(user.getUsername()).ifPresent(stored -> {
+                stored.setPassword(newPassword);
+                userRepository.saveAndFlush(stored);
+            });
+            log.info("Upgraded password encoding for {}", user.getUsername());
+        } catch (OptimisticLockingFailureException e) {
+            log.debug("Skipped password upgrade for {}: user changed concurrently", user.getUsername());
+            return user;
+        } finally {
+            userCache.removeUserFromCache(user.getUsername());
+        }
+        return User.withUserDetails(user)
+                .password(newPassword)
                 .build();
     }
 }
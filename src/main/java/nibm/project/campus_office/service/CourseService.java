@@ -3,29 +3,72 @@ package nibm.project.campus_office.service;
 import lombok.RequiredArgsConstructor;
 import nibm.project.campus_office.entity.Course;
 import nibm.project.campus_office.repository.CourseRepository;
+import nibm.project.campus_office.service.DomainChangeEvent.Type;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class CourseService {
 
     private final CourseRepository courseRepository;
+    private final EnrollmentService enrollmentService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher events;
 
     @Transactional(readOnly = true)
     public List<Course> findAll() {
         return courseRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public List<Course> list(Pageable pageable) {
+        return courseRepository.findAllBy(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Course> findById(Long id) {
+        return courseRepository.findById(id);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Course> findByCourseCode(String courseCode) {
+        return courseRepository.findByCourseCode(courseCode);
+    }
+
+    /**
+     * Saves the course. Raising its capacity, or removing the limit, seats waitlisted
+     * enrollments straight away rather than when the next seat is released.
+     */
     @Transactional
-    public Course save(Course enrollment) {
-        return courseRepository.save(enrollment);
+    public Course save(Course course) {
+        boolean capacityRaised = course.getId() != null && raisesCapacity(course);
+
+        Course saved = courseRepository.saveAndFlush(course);
+        if (capacityRaised) {
+            enrollmentService.promoteWaitlisted(saved.getId());
+        }
+        events.publishEvent(new DomainChangeEvent(Type.COURSE, saved.getId()));
+        return saved;
+    }
+
+    // Locks the row, so no enrollment can take a seat between this read and the promotion
+    private boolean raisesCapacity(Course course) {
+        List<Integer> stored = jdbcTemplate.queryForList(
+                "select capacity from courses where id = ? for update", Integer.class, course.getId());
+        Integer previous = stored.isEmpty() ? null : stored.get(0);
+        return previous != null && (course.getCapacity() == null || course.getCapacity() > previous);
     }
 
     @Transactional
-    public void delete(Course enrollment) {
-        courseRepository.delete(enrollment);
+    public void delete(Course course) {
+        courseRepository.delete(course);
+        events.publishEvent(new DomainChangeEvent(Type.COURSE, course.getId()));
     }
 }
@@ -0,0 +1,101 @@
+package nibm.project.campus_office.service;
+
+import com.vaadin.flow.shared.Registration;
+import lombok.extern.slf4j.Slf4j;
+import nibm.project.campus_office.service.DomainChangeEvent.Type;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Keeps open dashboards live. Committed {@link DomainChangeEvent}s are collected for a short
+ * debounce window; at the end of it only the sections affected by the changed types are
+ * queried, once, and the resulting {@link DashboardUpdate} is handed to every registered
+ * dashboard. A burst of saves therefore costs one round of aggregate queries, not one per
+ * save per open dashboard.
+ */
+@Service
+@Slf4j
+public class DashboardBroadcaster {
+
+    private final DashboardStatsService statsService;
+    private final TaskScheduler taskScheduler;
+    private final Duration debounce;
+
+    private final Set<Consumer<DashboardUpdate>> listeners = ConcurrentHashMap.newKeySet();
+    private final Set<Type> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    public DashboardBroadcaster(DashboardStatsService statsService, TaskScheduler taskScheduler,
+                                @Value("${campus.dashboard.push-debounce:PT1S}") Duration debounce) {
+        this.statsService = statsService;
+        this.taskScheduler = taskScheduler;
+        this.debounce = debounce;
+    }
+
+    /**
+     * Registers a dashboard. The listener is called from a scheduler thread and must hand the
+     * update to its UI with {@code UI.access}.
+     */
+    public Registration register(Consumer<DashboardUpdate> listener) {
+        listeners.add(listener);
+        return () -> listeners.remove(listener);
+    }
+
+    // fallbackExecution: bulk writers such as the CSV import publish outside a transaction
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(DomainChangeEvent event) {
+        pending.add(event.type());
+        if (scheduled.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::publish, Instant.now().plus(debounce));
+        }
+    }
+
+    private void publish() {
+        scheduled.set(false);
+        Set<Type> changed = EnumSet.noneOf(Type.class);
+        for (Type type : Type.values()) {
+            if (pending.remove(type)) {
+                changed.add(type);
+            }
+        }
+        if (changed.isEmpty() || listeners.isEmpty()) {
+            return;
+        }
+
+        DashboardUpdate update;
+        try {
+            update = collect(changed);
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh dashboard for {}", changed, e);
+            return;
+        }
+        for (Consumer<DashboardUpdate> listener : listeners) {
+            try {
+                listener.accept(update);
+            } catch (RuntimeException e) {
+                // Typically a UI that detached while the update was being collected
+                log.debug("Dropping dashboard update for a closed view", e);
+            }
+        }
+    }
+
+    private DashboardUpdate collect(Set<Type> changed) {
+        boolean statsChanged = changed.contains(Type.STUDENT) || changed.contains(Type.COURSE)
+                || changed.contains(Type.ENROLLMENT) || changed.contains(Type.PAYMENT);
+        return new DashboardUpdate(
+                statsChanged ? statsService.getStats() : null,
+                changed.contains(Type.ENROLLMENT) ? statsService.findRecentEnrollments() : null,
+                changed.contains(Type.PAYMENT) ? statsService.findRecentPayments() : null,
+                changed.contains(Type.INTERACTION) ? statsService.findRecentInteractions() : null);
+    }
+}
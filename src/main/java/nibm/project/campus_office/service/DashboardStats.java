@@ -0,0 +1,34 @@
+package nibm.project.campus_office.service;
+
+import nibm.project.campus_office.enums.EnrollmentStatus;
+import nibm.project.campus_office.enums.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the dashboard aggregates, computed by {@link DashboardStatsService}.
+ */
+public record DashboardStats(
+        long activeStudents,
+        long totalCourses,
+        Map<EnrollmentStatus, Long> enrollmentCounts,
+        Map<PaymentStatus, Long> paymentCounts,
+        Map<PaymentStatus, BigDecimal> paymentAmounts
+) {
+
+    public DashboardStats {
+        enrollmentCounts = Collections.unmodifiableMap(enrollmentCounts);
+        paymentCounts = Collections.unmodifiableMap(paymentCounts);
+        paymentAmounts = Collections.unmodifiableMap(paymentAmounts);
+    }
+
+    public long activeEnrollments() {
+        return enrollmentCounts.getOrDefault(EnrollmentStatus.ENROLLED, 0L);
+    }
+
+    public BigDecimal pendingAmount() {
+        return paymentAmounts.getOrDefault(PaymentStatus.PENDING, BigDecimal.ZERO);
+    }
+}
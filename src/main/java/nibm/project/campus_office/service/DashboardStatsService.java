@@ -0,0 +1,90 @@
+package nibm.project.campus_office.service;
+
+import lombok.RequiredArgsConstructor;
+import nibm.project.campus_office.entity.Enrollment;
+import nibm.project.campus_office.entity.Interaction;
+import nibm.project.campus_office.entity.Payment;
+import nibm.project.campus_office.enums.EnrollmentStatus;
+import nibm.project.campus_office.enums.PaymentStatus;
+import nibm.project.campus_office.enums.StudentStatus;
+import nibm.project.campus_office.monitoring.jfr.DashboardAggregationEvent;
+import nibm.project.campus_office.repository.CourseRepository;
+import nibm.project.campus_office.repository.EnrollmentRepository;
+import nibm.project.campus_office.repository.InteractionRepository;
+import nibm.project.campus_office.repository.PaymentRepository;
+import nibm.project.campus_office.repository.StudentRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+@Service
+@RequiredArgsConstructor
+public class DashboardStatsService {
+
+    private final StudentRepository studentRepository;
+    private final CourseRepository courseRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final PaymentRepository paymentRepository;
+    private final InteractionRepository interactionRepository;
+
+    /**
+     * Computes all dashboard aggregates with grouped COUNT/SUM queries inside a single
+     * read-only transaction, so no entity rows are loaded into the heap.
+     */
+    @Transactional(readOnly = true)
+    public DashboardStats getStats() {
+        DashboardAggregationEvent event = new DashboardAggregationEvent();
+        event.section = "stats";
+        event.start();
+
+        long activeStudents = studentRepository.countByStatus(StudentStatus.ACTIVE);
+        long totalCourses = courseRepository.count();
+
+        Map<EnrollmentStatus, Long> enrollmentCounts = new EnumMap<>(EnrollmentStatus.class);
+        for (EnrollmentRepository.StatusCount row : enrollmentRepository.countGroupedByStatus()) {
+            enrollmentCounts.put(row.getStatus(), row.getTotal());
+        }
+
+        Map<PaymentStatus, Long> paymentCounts = new EnumMap<>(PaymentStatus.class);
+        Map<PaymentStatus, BigDecimal> paymentAmounts = new EnumMap<>(PaymentStatus.class);
+        for (PaymentRepository.StatusTotal row : paymentRepository.sumGroupedByStatus()) {
+            paymentCounts.put(row.getStatus(), row.getTotal());
+            paymentAmounts.put(row.getStatus(), row.getAmount() != null ? row.getAmount() : BigDecimal.ZERO);
+        }
+
+        event.rows = enrollmentCounts.size() + paymentCounts.size();
+        event.finish();
+        return new DashboardStats(activeStudents, totalCourses, enrollmentCounts, paymentCounts, paymentAmounts);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Enrollment> findRecentEnrollments() {
+        return recent("recentEnrollments", enrollmentRepository::findTop5ByEnrollmentDateIsNotNullOrderByEnrollmentDateDesc);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Payment> findRecentPayments() {
+        return recent("recentPayments", paymentRepository::findTop5ByPaymentDateIsNotNullOrderByPaymentDateDesc);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Interaction> findRecentInteractions() {
+        return recent("recentInteractions", () -> interactionRepository.findLatest(Limit.of(5)));
+    }
+
+    private static <T> List<T> recent(String section, Supplier<List<T>> query) {
+        DashboardAggregationEvent event = new DashboardAggregationEvent();
+        event.section = section;
+        event.start();
+        List<T> rows = query.get();
+        event.rows = rows.size();
+        event.finish();
+        return rows;
+    }
+}
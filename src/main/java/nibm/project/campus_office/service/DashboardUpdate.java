@@ -0,0 +1,19 @@
+package nibm.project.campus_office.service;
+
+import nibm.project.campus_office.entity.Enrollment;
+import nibm.project.campus_office.entity.Interaction;
+import nibm.project.campus_office.entity.Payment;
+
+import java.util.List;
+
+/**
+ * Dashboard sections that changed since the last update. Sections that did not change are
+ * {@code null} and left as they are on screen.
+ */
+public record DashboardUpdate(
+        DashboardStats stats,
+        List<Enrollment> recentEnrollments,
+        List<Payment> recentPayments,
+        List<Interaction> recentInteractions
+) {
+}
@@ -0,0 +1,13 @@
+package nibm.project.campus_office.service;
+
+/**
+ * Published by the services whenever records are created, updated or deleted. {@code id} is
+ * {@code null} for bulk changes such as imports and the overdue sweep. Listeners that must only
+ * react to committed data subscribe with {@code @TransactionalEventListener}.
+ */
+public record DomainChangeEvent(Type type, Long id) {
+
+    public enum Type {
+        STUDENT, COURSE, ENROLLMENT, PAYMENT, INTERACTION
+    }
+}
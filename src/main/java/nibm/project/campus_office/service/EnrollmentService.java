@@ -1,31 +1,139 @@
 package nibm.project.campus_office.service;
 
 import lombok.RequiredArgsConstructor;
+import nibm.project.campus_office.dto.EnrollmentRow;
 import nibm.project.campus_office.entity.Enrollment;
+import nibm.project.campus_office.enums.EnrollmentStatus;
+import nibm.project.campus_office.repository.EnrollmentRepository.SeatHolder;
 import nibm.project.campus_office.repository.EnrollmentRepository;
+import nibm.project.campus_office.service.DomainChangeEvent.Type;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
+/**
+ * Enrollments and the seats they hold. The seat count of a course is only ever moved by a
+ * single conditional {@code UPDATE} on its row, so concurrent enrollments cannot overbook:
+ * the row lock serialises them and the {@code seats_taken < capacity} check is re-evaluated
+ * against the committed count. The count is deliberately not mapped on {@code Course}; the
+ * updates go through JDBC so they do not invalidate the cached courses.
+ */
 @Service
 @RequiredArgsConstructor
 public class EnrollmentService {
 
+    private static final String TAKE_SEAT = "update courses set seats_taken = seats_taken + 1 " +
+            "where id = ? and (capacity is null or seats_taken < capacity)";
+    private static final String RELEASE_SEAT = "update courses set seats_taken = seats_taken - 1 " +
+            "where id = ? and seats_taken > 0";
+    private static final String LOCK_COURSE = "select id from courses where id = ? for update";
+
     private final EnrollmentRepository enrollmentRepo;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher events;
 
     @Transactional(readOnly = true)
     public List<Enrollment> findAll() {
         return enrollmentRepo.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public List<EnrollmentRow> listRows(Pageable pageable) {
+        return enrollmentRepo.findRowsBy(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Enrollment> findById(Long id) {
+        return enrollmentRepo.findById(id);
+    }
+
+    /**
+     * Saves the enrollment and moves seats to match its status. An enrollment that needs a
+     * seat in a full course is waitlisted instead; giving up a seat promotes the oldest
+     * waitlisted enrollment of that course.
+     */
     @Transactional
     public Enrollment save(Enrollment enrollment) {
-        return enrollmentRepo.save(enrollment);
+        if (enrollment.getStatus() == null) {
+            enrollment.setStatus(EnrollmentStatus.ENROLLED);
+        }
+        Long courseId = enrollment.getCourse().getId();
+        Long heldCourseId = heldSeat(enrollment.getId());
+        if (heldCourseId != null && !heldCourseId.equals(courseId)) {
+            // A move touches two course rows; two opposite moves must lock them in the same order
+            lockCourses(Math.min(courseId, heldCourseId), Math.max(courseId, heldCourseId));
+        }
+
+        if (enrollment.getStatus().holdsSeat() && !courseId.equals(heldCourseId) && !takeSeat(courseId)) {
+            enrollment.setStatus(EnrollmentStatus.WAITLISTED);
+        }
+        Enrollment saved = enrollmentRepo.save(enrollment);
+
+        if (heldCourseId != null && !(saved.getStatus().holdsSeat() && courseId.equals(heldCourseId))) {
+            releaseSeat(heldCourseId);
+        }
+        events.publishEvent(new DomainChangeEvent(Type.ENROLLMENT, saved.getId()));
+        return saved;
     }
 
     @Transactional
     public void delete(Enrollment enrollment) {
+        Long heldCourseId = heldSeat(enrollment.getId());
         enrollmentRepo.delete(enrollment);
+        if (heldCourseId != null) {
+            releaseSeat(heldCourseId);
+        }
+        events.publishEvent(new DomainChangeEvent(Type.ENROLLMENT, enrollment.getId()));
+    }
+
+    /**
+     * Course in which the stored enrollment currently holds a seat, or {@code null}.
+     */
+    private Long heldSeat(Long enrollmentId) {
+        if (enrollmentId == null) {
+            return null;
+        }
+        return enrollmentRepo.findSeatHolderById(enrollmentId)
+                .filter(holder -> holder.getStatus() == null || holder.getStatus().holdsSeat())
+                .map(SeatHolder::getCourseId)
+                .orElse(null);
+    }
+
+    /**
+     * Fills free seats of a course from its waitlist, oldest first. Called when a seat is
+     * released and when the course's capacity is raised; the caller's transaction must already
+     * hold the course row.
+     */
+    @Transactional
+    public void promoteWaitlisted(Long courseId) {
+        Optional<Enrollment> next = enrollmentRepo.findNextWaitlisted(courseId);
+        while (next.isPresent() && takeSeat(courseId)) {
+            next.get().setStatus(EnrollmentStatus.ENROLLED);
+            // Flushed so the next lookup does not return the same enrollment again
+            enrollmentRepo.flush();
+            next = enrollmentRepo.findNextWaitlisted(courseId);
+        }
+    }
+
+    private void lockCourses(Long... courseIds) {
+        for (Long courseId : courseIds) {
+            jdbcTemplate.queryForList(LOCK_COURSE, Long.class, courseId);
+        }
+    }
+
+    private boolean takeSeat(Long courseId) {
+        return jdbcTemplate.update(TAKE_SEAT, courseId) == 1;
+    }
+
+    private void releaseSeat(Long courseId) {
+        // The course row stays locked until commit, so the freed seat cannot be taken by a
+        // concurrent enrollment before the waitlist is served
+        jdbcTemplate.update(RELEASE_SEAT, courseId);
+        promoteWaitlisted(courseId);
     }
 }
@@ -0,0 +1,93 @@
+package nibm.project.campus_office.service;
+
+import lombok.RequiredArgsConstructor;
+import nibm.project.campus_office.dto.SearchResult;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Ranked full-text search over students, courses and interactions, backed by the generated
+ * {@code search_vector} columns and their GIN indexes.
+ */
+@Service
+@RequiredArgsConstructor
+public class GlobalSearchService {
+
+    public static final int MIN_QUERY_LENGTH = 2;
+
+    // Each branch keeps only its own top rows, so the final sort never sees more than
+    // three pages' worth of candidates however many rows match. Courses mix an unstemmed code
+    // ('simple') with stemmed text ('english'), so they are matched with both configs.
+    private static final String SEARCH_SQL = """
+            select * from (
+                (select 'STUDENT' as type, s.id, s.first_name || ' ' || s.last_name as title,
+                        concat_ws(' · ', s.student_id, s.email, s.phone) as detail,
+                        ts_rank(s.search_vector, to_tsquery('simple', :query)) as rank
+                 from students s
+                 where s.search_vector @@ to_tsquery('simple', :query)
+                 order by rank desc, s.id
+                 limit :window)
+                union all
+                (select 'COURSE', c.id, c.course_code || ' - ' || c.title,
+                        left(c.description, 120),
+                        ts_rank(c.search_vector, to_tsquery('simple', :query) || to_tsquery('english', :query)) as rank
+                 from courses c
+                 where c.search_vector @@ (to_tsquery('simple', :query) || to_tsquery('english', :query))
+                 order by rank desc, c.id
+                 limit :window)
+                union all
+                (select 'INTERACTION', i.id, i.subject,
+                        st.first_name || ' ' || st.last_name,
+                        ts_rank(i.search_vector, to_tsquery('english', :query)) as rank
+                 from interactions i
+                 join students st on st.id = i.student_id
+                 where i.search_vector @@ to_tsquery('english', :query)
+                 order by rank desc, i.id
+                 limit :window)
+            ) hits
+            order by rank desc, type, id
+            limit :limit offset :offset
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<SearchResult> search(String text, int offset, int limit) {
+        String query = toPrefixQuery(text);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("window", offset + limit)
+                .addValue("limit", limit)
+                .addValue("offset", offset);
+
+        return jdbcTemplate.query(SEARCH_SQL, params, (rs, rowNum) -> new SearchResult(
+                SearchResult.Type.valueOf(rs.getString("type")),
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getString("detail"),
+                rs.getDouble("rank")));
+    }
+
+    /**
+     * Turns free text into an AND of prefix terms ({@code "nan lk"} becomes
+     * {@code "nan:* & lk:*"}), dropping anything that is tsquery syntax.
+     */
+    public static String toPrefixQuery(String text) {
+        if (text == null || text.strip().length() < MIN_QUERY_LENGTH) {
+            return "";
+        }
+        return Arrays.stream(text.toLowerCase().split("[^\\p{L}\\p{N}@._+-]+"))
+                .map(term -> term.replaceAll("^[._+-]+|[._+-]+$", ""))
+                .filter(term -> !term.isEmpty())
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+}
@@ -0,0 +1,43 @@
+package nibm.project.campus_office.service;
+
+import lombok.RequiredArgsConstructor;
+import nibm.project.campus_office.entity.Instructor;
+import nibm.project.campus_office.repository.InstructorRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class InstructorService {
+
+    private final InstructorRepository instructorRepository;
+
+    @Transactional(readOnly = true)
+    public List<Instructor> findAll() {
+        return instructorRepository.findAll();
+    }
+
+    @Transactional(readOnly = true)
+    public List<Instructor> listWithCourses(Pageable pageable) {
+        return instructorRepository.findPageWithCourses(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Instructor> findById(Long id) {
+        return instructorRepository.findById(id);
+    }
+
+    @Transactional
+    public Instructor save(Instructor instructor) {
+        return instructorRepository.save(instructor);
+    }
+
+    @Transactional
+    public void delete(Instructor instructor) {
+        instructorRepository.delete(instructor);
+    }
+}
@@ -0,0 +1,45 @@
+package nibm.project.campus_office.service;
+
+import lombok.RequiredArgsConstructor;
+import nibm.project.campus_office.dto.InteractionRow;
+import nibm.project.campus_office.entity.Interaction;
+import nibm.project.campus_office.repository.InteractionRepository;
+import nibm.project.campus_office.service.DomainChangeEvent.Type;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class InteractionService {
+
+    private final InteractionRepository interactionRepository;
+    private final ApplicationEventPublisher events;
+
+    @Transactional(readOnly = true)
+    public List<InteractionRow> listRows(Pageable pageable) {
+        return interactionRepository.findRowsBy(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Interaction> findById(Long id) {
+        return interactionRepository.findById(id);
+    }
+
+    @Transactional
+    public Interaction save(Interaction interaction) {
+        Interaction saved = interactionRepository.save(interaction);
+        events.publishEvent(new DomainChangeEvent(Type.INTERACTION, saved.getId()));
+        return saved;
+    }
+
+    @Transactional
+    public void delete(Interaction interaction) {
+        interactionRepository.delete(interaction);
+        events.publishEvent(new DomainChangeEvent(Type.INTERACTION, interaction.getId()));
+    }
+}
@@ -0,0 +1,122 @@
+package nibm.project.campus_office.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import nibm.project.campus_office.entity.Payment;
+import nibm.project.campus_office.enums.PaymentStatus;
+import nibm.project.campus_office.repository.PaymentRepository;
+import nibm.project.campus_office.repository.StudentBalanceRepository;
+import nibm.project.campus_office.service.DomainChangeEvent.Type;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Moves {@code PENDING} payments whose due date has passed to {@code OVERDUE}.
+ * <p>
+ * Each chunk runs in its own short transaction: the rows are read through the
+ * {@code (status, due_date)} index, updated as one JDBC batch on commit, and the affected
+ * students' balances are refreshed before the locks are released. A chunk that collides with
+ * a staff member saving one of its payments fails its version check and is retried from a fresh
+ * read, so the edit is never overwritten.
+ */
+@Service
+@Slf4j
+public class OverduePaymentSweeper {
+
+    private final PaymentRepository paymentRepository;
+    private final StudentBalanceRepository studentBalanceRepository;
+    private final ApplicationEventPublisher events;
+    private final TransactionTemplate transactionTemplate;
+    private final RetryTemplate retryTemplate;
+    private final int chunkSize;
+    private final Timer chunkTimer;
+
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong rowsProcessed = new AtomicLong();
+
+    public OverduePaymentSweeper(PaymentRepository paymentRepository,
+                                 StudentBalanceRepository studentBalanceRepository,
+                                 ApplicationEventPublisher events,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry registry,
+                                 @Value("${campus.payments.overdue-sweep.chunk-size:500}") int chunkSize) {
+        this.paymentRepository = paymentRepository;
+        this.studentBalanceRepository = studentBalanceRepository;
+        this.events = events;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retryTemplate = RetryTemplate.builder()
+                .maxAttempts(3)
+                .exponentialBackoff(50, 2, 500)
+                .retryOn(OptimisticLockingFailureException.class)
+                .build();
+        this.chunkSize = chunkSize;
+        this.chunkTimer = Timer.builder("campus.overdue.sweep.chunk")
+                .description("Time to sweep and commit one chunk, retries included")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    @Scheduled(initialDelayString = "PT1M", fixedDelayString = "${campus.payments.overdue-sweep.interval:PT5M}")
+    public void sweep() {
+        LocalDate today = LocalDate.now();
+        long swept = 0;
+        int updated;
+        do {
+            long start = System.nanoTime();
+            updated = retryTemplate.execute(retry -> transactionTemplate.execute(status -> sweepChunk(today)));
+            long elapsed = System.nanoTime() - start;
+
+            if (updated > 0) {
+                rowsProcessed.addAndGet(updated);
+                chunkTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                swept += updated;
+                log.debug("Marked {} payments overdue in {} ms", updated, elapsed / 1_000_000);
+            }
+        } while (updated == chunkSize);
+
+        runs.incrementAndGet();
+        if (swept > 0) {
+            log.info("Overdue sweep marked {} payments overdue", swept);
+        }
+    }
+
+    private int sweepChunk(LocalDate today) {
+        List<Payment> payments = paymentRepository.findByStatusAndDueDateBeforeOrderByDueDateAsc(
+                PaymentStatus.PENDING, today, Limit.of(chunkSize));
+        if (payments.isEmpty()) {
+            return 0;
+        }
+
+        payments.forEach(payment -> payment.setStatus(PaymentStatus.OVERDUE));
+        paymentRepository.flush();
+
+        Set<Long> studentIds = payments.stream()
+                .map(payment -> payment.getStudent().getId())
+                .collect(Collectors.toSet());
+        studentBalanceRepository.refreshAll(studentIds);
+        events.publishEvent(new DomainChangeEvent(Type.PAYMENT, null));
+        return payments.size();
+    }
+
+    public SweepStats getStats() {
+        return new SweepStats(runs.get(), rowsProcessed.get());
+    }
+
+    public record SweepStats(long runs, long rowsProcessed) {
+    }
+}
@@ -0,0 +1,64 @@
+package nibm.project.campus_office.service;
+
+import lombok.RequiredArgsConstructor;
+import nibm.project.campus_office.dto.PaymentRow;
+import nibm.project.campus_office.entity.Payment;
+import nibm.project.campus_office.repository.PaymentRepository;
+import nibm.project.campus_office.repository.StudentBalanceRepository;
+import nibm.project.campus_office.service.DomainChangeEvent.Type;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class PaymentService {
+
+    private final PaymentRepository paymentRepository;
+    private final StudentBalanceRepository studentBalanceRepository;
+    private final ApplicationEventPublisher events;
+
+    @Transactional(readOnly = true)
+    public List<PaymentRow> listRows(Pageable pageable) {
+        return paymentRepository.findRowsBy(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Payment> findById(Long id) {
+        return paymentRepository.findById(id);
+    }
+
+    /**
+     * Saves the payment and refreshes the balance of its student in the same transaction. If
+     * the payment moved to another student, the previous student's balance is refreshed too.
+     */
+    @Transactional
+    public Payment save(Payment payment) {
+        Optional<Long> previousStudentId = payment.getId() != null
+                ? paymentRepository.findStudentIdById(payment.getId())
+                : Optional.empty();
+
+        Payment saved = paymentRepository.saveAndFlush(payment);
+        Long studentId = saved.getStudent().getId();
+
+        studentBalanceRepository.refresh(studentId);
+        previousStudentId
+                .filter(id -> !id.equals(studentId))
+                .ifPresent(studentBalanceRepository::refresh);
+        events.publishEvent(new DomainChangeEvent(Type.PAYMENT, saved.getId()));
+        return saved;
+    }
+
+    @Transactional
+    public void delete(Payment payment) {
+        Long studentId = payment.getStudent().getId();
+        paymentRepository.delete(payment);
+        paymentRepository.flush();
+        studentBalanceRepository.refresh(studentId);
+        events.publishEvent(new DomainChangeEvent(Type.PAYMENT, payment.getId()));
+    }
+}
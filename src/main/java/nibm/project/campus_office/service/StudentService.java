@@ -1,31 +1,50 @@
 package nibm.project.campus_office.service;
 
 import lombok.RequiredArgsConstructor;
+import nibm.project.campus_office.dto.StudentOption;
 import nibm.project.campus_office.entity.Student;
 import nibm.project.campus_office.repository.StudentRepository;
+import nibm.project.campus_office.service.DomainChangeEvent.Type;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class StudentService {
 
     private final StudentRepository studentRepository;
+    private final ApplicationEventPublisher events;
 
     @Transactional(readOnly = true)
     public List<Student> findAll() {
         return studentRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public List<StudentOption> findOptions(String prefix, Pageable pageable) {
+        return studentRepository.findOptions(prefix.trim(), pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Student> findById(Long id) {
+        return studentRepository.findById(id);
+    }
+
     @Transactional
     public Student save(Student enrollment) {
-        return studentRepository.save(enrollment);
+        Student saved = studentRepository.save(enrollment);
+        events.publishEvent(new DomainChangeEvent(Type.STUDENT, saved.getId()));
+        return saved;
     }
 
     @Transactional
     public void delete(Student enrollment) {
         studentRepository.delete(enrollment);
+        events.publishEvent(new DomainChangeEvent(Type.STUDENT, enrollment.getId()));
     }
 }
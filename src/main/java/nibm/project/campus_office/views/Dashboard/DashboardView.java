@@ -1,6 +1,9 @@
 package nibm.project.campus_office.views.Dashboard;
 
+import com.vaadin.flow.component.AttachEvent;
 import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.DetachEvent;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.html.H2;
 import com.vaadin.flow.component.html.H3;
@@ -12,43 +15,46 @@ import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
+import com.vaadin.flow.shared.Registration;
 import jakarta.annotation.security.PermitAll;
 import nibm.project.campus_office.entity.Enrollment;
 import nibm.project.campus_office.entity.Interaction;
 import nibm.project.campus_office.entity.Payment;
 import nibm.project.campus_office.enums.EnrollmentStatus;
 import nibm.project.campus_office.enums.PaymentStatus;
-import nibm.project.campus_office.enums.StudentStatus;
-import nibm.project.campus_office.repository.*;
+import nibm.project.campus_office.service.DashboardBroadcaster;
+import nibm.project.campus_office.service.DashboardStats;
+import nibm.project.campus_office.service.DashboardStatsService;
+import nibm.project.campus_office.service.DashboardUpdate;
 import nibm.project.campus_office.views.MainLayout;
 import org.springframework.security.core.context.SecurityContextHolder;
 
-import java.math.BigDecimal;
 import java.time.format.DateTimeFormatter;
-import java.util.Comparator;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Route(value = "", layout = MainLayout.class)
 @PageTitle("Dashboard | Diploma CRM")
 @PermitAll
 public class DashboardView extends VerticalLayout {
 
-    private final StudentRepository studentRepo;
-    private final CourseRepository courseRepo;
-    private final EnrollmentRepository enrollmentRepo;
-    private final PaymentRepository paymentRepo;
-    private final InteractionRepository interactionRepo;
-
-    public DashboardView(StudentRepository studentRepo, CourseRepository courseRepo,
-                         EnrollmentRepository enrollmentRepo, PaymentRepository paymentRepo,
-                         InteractionRepository interactionRepo) {
-        this.studentRepo = studentRepo;
-        this.courseRepo = courseRepo;
-        this.enrollmentRepo = enrollmentRepo;
-        this.paymentRepo = paymentRepo;
-        this.interactionRepo = interactionRepo;
+    private final DashboardStatsService statsService;
+    private final DashboardBroadcaster broadcaster;
+
+    // Kept so pushed updates can replace their content in place
+    private final Span activeStudentsValue = new Span();
+    private final Span totalCoursesValue = new Span();
+    private final Span activeEnrollmentsValue = new Span();
+    private final Span pendingAmountValue = new Span();
+    private final VerticalLayout enrollmentBreakdown = new VerticalLayout();
+    private final VerticalLayout paymentBreakdown = new VerticalLayout();
+    private final Grid<Enrollment> recentEnrollments = new Grid<>(Enrollment.class, false);
+    private final Grid<Payment> recentPayments = new Grid<>(Payment.class, false);
+    private final Grid<Interaction> recentInteractions = new Grid<>(Interaction.class, false);
+
+    private Registration updates;
+
+    public DashboardView(DashboardStatsService statsService, DashboardBroadcaster broadcaster) {
+        this.statsService = statsService;
+        this.broadcaster = broadcaster;
 
         setSizeFull();
         setPadding(true);
@@ -63,31 +69,64 @@ public class DashboardView extends VerticalLayout {
                 createSummaryCardsLayout(),
                 createRecentActivitiesLayout()
         );
+
+        showStats(statsService.getStats());
+        recentEnrollments.setItems(statsService.findRecentEnrollments());
+        recentPayments.setItems(statsService.findRecentPayments());
+        recentInteractions.setItems(statsService.findRecentInteractions());
     }
 
-    private Component createStatsLayout() {
-        long activeStudents = studentRepo.findByStatus(StudentStatus.ACTIVE).size();
-        long totalCourses = courseRepo.count();
-        long activeEnrollments = enrollmentRepo.findAll().stream()
-                .filter(e -> e.getStatus() == EnrollmentStatus.ENROLLED).count();
+    @Override
+    protected void onAttach(AttachEvent attachEvent) {
+        UI ui = attachEvent.getUI();
+        updates = broadcaster.register(update -> ui.access(() -> apply(update)));
+    }
 
-        BigDecimal pendingAmount = paymentRepo.findAll().stream()
-                .filter(p -> p.getStatus() == PaymentStatus.PENDING)
-                .map(Payment::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    @Override
+    protected void onDetach(DetachEvent detachEvent) {
+        if (updates != null) {
+            updates.remove();
+            updates = null;
+        }
+    }
+
+    private void apply(DashboardUpdate update) {
+        if (update.stats() != null) {
+            showStats(update.stats());
+        }
+        if (update.recentEnrollments() != null) {
+            recentEnrollments.setItems(update.recentEnrollments());
+        }
+        if (update.recentPayments() != null) {
+            recentPayments.setItems(update.recentPayments());
+        }
+        if (update.recentInteractions() != null) {
+            recentInteractions.setItems(update.recentInteractions());
+        }
+    }
 
+    private void showStats(DashboardStats stats) {
+        activeStudentsValue.setText(String.valueOf(stats.activeStudents()));
+        totalCoursesValue.setText(String.valueOf(stats.totalCourses()));
+        activeEnrollmentsValue.setText(String.valueOf(stats.activeEnrollments()));
+        pendingAmountValue.setText("Rs. " + stats.pendingAmount());
+        showEnrollmentBreakdown(stats);
+        showPaymentBreakdown(stats);
+    }
+
+    private Component createStatsLayout() {
         HorizontalLayout stats = new HorizontalLayout(
-                createStatCard("Active Students", String.valueOf(activeStudents), VaadinIcon.USERS, "#2196F3"),
-                createStatCard("Total Courses", String.valueOf(totalCourses), VaadinIcon.BOOK, "#4CAF50"),
-                createStatCard("Active Enrollments", String.valueOf(activeEnrollments), VaadinIcon.DIPLOMA, "#FF9800"),
-                createStatCard("Pending Amount", "Rs. " + pendingAmount, VaadinIcon.DOLLAR, "#F44336")
+                createStatCard("Active Students", activeStudentsValue, VaadinIcon.USERS, "#2196F3"),
+                createStatCard("Total Courses", totalCoursesValue, VaadinIcon.BOOK, "#4CAF50"),
+                createStatCard("Active Enrollments", activeEnrollmentsValue, VaadinIcon.DIPLOMA, "#FF9800"),
+                createStatCard("Pending Amount", pendingAmountValue, VaadinIcon.DOLLAR, "#F44336")
         );
         stats.setWidthFull();
         stats.setSpacing(true);
         return stats;
     }
 
-    private Component createStatCard(String label, String value, VaadinIcon icon, String color) {
+    private Component createStatCard(String label, Span valueLabel, VaadinIcon icon, String color) {
         VerticalLayout card = new VerticalLayout();
         card.setPadding(true);
         card.setSpacing(false);
@@ -101,7 +140,6 @@ public class DashboardView extends VerticalLayout {
         cardIcon.setSize("32px");
         cardIcon.getStyle().set("color", color);
 
-        Span valueLabel = new Span(value);
         valueLabel.getStyle()
                 .set("font-size", "24px")
                 .set("font-weight", "bold")
@@ -143,14 +181,16 @@ public class DashboardView extends VerticalLayout {
         H3 title = new H3("Enrollment Breakdown");
         title.getStyle().set("margin", "0 0 16px 0");
 
-        Map<EnrollmentStatus, Long> enrollmentStats = enrollmentRepo.findAll().stream()
-                .collect(Collectors.groupingBy(Enrollment::getStatus, Collectors.counting()));
+        enrollmentBreakdown.setPadding(false);
+        enrollmentBreakdown.setSpacing(true);
 
-        VerticalLayout statsList = new VerticalLayout();
-        statsList.setPadding(false);
-        statsList.setSpacing(true);
+        container.add(title, enrollmentBreakdown);
+        return container;
+    }
 
-        enrollmentStats.forEach((status, count) -> {
+    private void showEnrollmentBreakdown(DashboardStats stats) {
+        enrollmentBreakdown.removeAll();
+        stats.enrollmentCounts().forEach((status, count) -> {
             HorizontalLayout row = new HorizontalLayout();
             row.setWidthFull();
             row.setJustifyContentMode(FlexComponent.JustifyContentMode.BETWEEN);
@@ -168,11 +208,8 @@ public class DashboardView extends VerticalLayout {
                     .set("font-weight", "bold");
 
             row.add(statusLabel, countBadge);
-            statsList.add(row);
+            enrollmentBreakdown.add(row);
         });
-
-        container.add(title, statsList);
-        return container;
     }
 
     private Component createPaymentSummary() {
@@ -187,20 +224,16 @@ public class DashboardView extends VerticalLayout {
         H3 title = new H3("Payment Breakdown");
         title.getStyle().set("margin", "0 0 16px 0");
 
-        Map<PaymentStatus, Long> paymentStats = paymentRepo.findAll().stream()
-                .collect(Collectors.groupingBy(Payment::getStatus, Collectors.counting()));
-
-        Map<PaymentStatus, BigDecimal> paymentAmounts = paymentRepo.findAll().stream()
-                .collect(Collectors.groupingBy(
-                        Payment::getStatus,
-                        Collectors.reducing(BigDecimal.ZERO, Payment::getAmount, BigDecimal::add)
-                ));
+        paymentBreakdown.setPadding(false);
+        paymentBreakdown.setSpacing(true);
 
-        VerticalLayout statsList = new VerticalLayout();
-        statsList.setPadding(false);
-        statsList.setSpacing(true);
+        container.add(title, paymentBreakdown);
+        return container;
+    }
 
-        paymentStats.forEach((status, count) -> {
+    private void showPaymentBreakdown(DashboardStats stats) {
+        paymentBreakdown.removeAll();
+        stats.paymentCounts().forEach((status, count) -> {
             VerticalLayout row = new VerticalLayout();
             row.setPadding(false);
             row.setSpacing(false);
@@ -223,18 +256,15 @@ public class DashboardView extends VerticalLayout {
 
             header.add(statusLabel, countBadge);
 
-            Span amount = new Span("Rs. " + paymentAmounts.get(status));
+            Span amount = new Span("Rs. " + stats.paymentAmounts().get(status));
             amount.getStyle()
                     .set("color", "#666")
                     .set("font-size", "14px")
                     .set("margin-left", "4px");
 
             row.add(header, amount);
-            statsList.add(row);
+            paymentBreakdown.add(row);
         });
-
-        container.add(title, statsList);
-        return container;
     }
 
     private Component createRecentActivitiesLayout() {
@@ -263,7 +293,7 @@ public class DashboardView extends VerticalLayout {
         H3 title = new H3("Recent Enrollments");
         title.getStyle().set("margin", "0 0 16px 0");
 
-        Grid<Enrollment> grid = new Grid<>(Enrollment.class, false);
+        Grid<Enrollment> grid = recentEnrollments;
         grid.addColumn(e -> e.getStudent().getFirstName() + " " + e.getStudent().getLastName())
                 .setHeader("Student").setAutoWidth(true);
         grid.addColumn(e -> e.getCourse().getTitle())
@@ -282,12 +312,6 @@ public class DashboardView extends VerticalLayout {
             return badge;
         }).setHeader("Status").setAutoWidth(true);
 
-        List<Enrollment> recent = enrollmentRepo.findAll().stream()
-                .sorted(Comparator.comparing(Enrollment::getEnrollmentDate).reversed())
-                .limit(5)
-                .collect(Collectors.toList());
-
-        grid.setItems(recent);
         grid.setHeight("300px");
 
         container.add(title, grid);
@@ -306,7 +330,7 @@ public class DashboardView extends VerticalLayout {
         H3 title = new H3("Recent Payments");
         title.getStyle().set("margin", "0 0 16px 0");
 
-        Grid<Payment> grid = new Grid<>(Payment.class, false);
+        Grid<Payment> grid = recentPayments;
         grid.addColumn(p -> p.getStudent().getFirstName() + " " + p.getStudent().getLastName())
                 .setHeader("Student").setAutoWidth(true);
         grid.addColumn(p -> "Rs. " + p.getAmount())
@@ -325,13 +349,6 @@ public class DashboardView extends VerticalLayout {
             return badge;
         }).setHeader("Status").setAutoWidth(true);
 
-        List<Payment> recent = paymentRepo.findAll().stream()
-                .filter(p -> p.getPaymentDate() != null)
-                .sorted(Comparator.comparing(Payment::getPaymentDate).reversed())
-                .limit(5)
-                .collect(Collectors.toList());
-
-        grid.setItems(recent);
         grid.setHeight("300px");
 
         container.add(title, grid);
@@ -350,7 +367,7 @@ public class DashboardView extends VerticalLayout {
         H3 title = new H3("Recent Interactions");
         title.getStyle().set("margin", "0 0 16px 0");
 
-        Grid<Interaction> grid = new Grid<>(Interaction.class, false);
+        Grid<Interaction> grid = recentInteractions;
         grid.addColumn(i -> i.getStudent().getFirstName() + " " + i.getStudent().getLastName())
                 .setHeader("Student").setAutoWidth(true);
         grid.addColumn(Interaction::getType)
@@ -360,12 +377,6 @@ public class DashboardView extends VerticalLayout {
         grid.addColumn(i -> i.getInteractionDate().format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm")))
                 .setHeader("Date").setAutoWidth(true);
 
-        List<Interaction> recent = interactionRepo.findAll().stream()
-                .sorted(Comparator.comparing(Interaction::getInteractionDate).reversed())
-                .limit(5)
-                .collect(Collectors.toList());
-
-        grid.setItems(recent);
         grid.setHeight("300px");
 
         container.add(title, grid);
@@ -378,6 +389,7 @@ public class DashboardView extends VerticalLayout {
             case COMPLETED -> "#2196F3";
             case WITHDRAWN -> "#F44336";
             case FAILED -> "#FF9800";
+            case WAITLISTED -> "#9C27B0";
         };
     }
 
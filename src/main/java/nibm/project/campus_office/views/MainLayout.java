@@ -1,11 +1,13 @@
 package nibm.project.campus_office.views;
 
 import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.applayout.AppLayout;
 import com.vaadin.flow.component.applayout.DrawerToggle;
 import com.vaadin.flow.component.avatar.Avatar;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
+import com.vaadin.flow.component.combobox.ComboBox;
 import com.vaadin.flow.component.html.H1;
 import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.icon.VaadinIcon;
@@ -14,10 +16,13 @@ import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.sidenav.SideNav;
 import com.vaadin.flow.component.sidenav.SideNavItem;
+import com.vaadin.flow.data.renderer.LitRenderer;
 import com.vaadin.flow.theme.lumo.LumoUtility;
 import jakarta.annotation.security.PermitAll;
 import jakarta.annotation.security.RolesAllowed;
+import nibm.project.campus_office.dto.SearchResult;
 import nibm.project.campus_office.security.SecurityService;
+import nibm.project.campus_office.service.GlobalSearchService;
 import nibm.project.campus_office.views.Dashboard.DashboardView;
 import nibm.project.campus_office.views.course.CourseListView;
 import nibm.project.campus_office.views.enroll.EnrollmentListView;
@@ -26,6 +31,7 @@ import nibm.project.campus_office.views.interactions.InteractionListView;
 import nibm.project.campus_office.views.payments.PaymentListView;
 import nibm.project.campus_office.views.sudent.StudentListView;
 import nibm.project.campus_office.views.user.UserListView;
+import nibm.project.campus_office.views.util.SearchLink;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -37,9 +43,11 @@ import java.util.stream.Collectors;
 public class MainLayout extends AppLayout {
 
     private final SecurityService securityService;
+    private final GlobalSearchService searchService;
 
-    public MainLayout(SecurityService securityService) {
+    public MainLayout(SecurityService securityService, GlobalSearchService searchService) {
         this.securityService = securityService;
+        this.searchService = searchService;
         createHeader();
         createDrawer();
     }
@@ -90,7 +98,7 @@ public class MainLayout extends AppLayout {
 
         DrawerToggle toggle = new DrawerToggle();
 
-        HorizontalLayout header = new HorizontalLayout(toggle, logo, userSection);
+        HorizontalLayout header = new HorizontalLayout(toggle, logo, createSearchBox(), userSection);
         header.setDefaultVerticalComponentAlignment(FlexComponent.Alignment.CENTER);
         header.expand(logo);
         header.setWidthFull();
@@ -102,6 +110,41 @@ public class MainLayout extends AppLayout {
         addToNavbar(header);
     }
 
+    private ComboBox<SearchResult> createSearchBox() {
+        ComboBox<SearchResult> search = new ComboBox<>();
+        search.setPlaceholder("Search students, courses, interactions...");
+        search.setPrefixComponent(VaadinIcon.SEARCH.create());
+        search.setWidth("28em");
+
+        // Ranked and paged in SQL; nothing is fetched until the user has typed a couple of characters
+        search.setItems(query -> searchService.search(
+                query.getFilter().orElse(""), query.getOffset(), query.getLimit()).stream());
+        search.setItemLabelGenerator(SearchResult::title);
+        search.setRenderer(LitRenderer.<SearchResult>of(
+                        "<div><b>${item.title}</b> <small>${item.type}</small><br>" +
+                                "<small style=\"color: var(--lumo-secondary-text-color)\">${item.detail}</small></div>")
+                .withProperty("title", SearchResult::title)
+                .withProperty("type", result -> result.type().name().toLowerCase())
+                .withProperty("detail", result -> result.detail() != null ? result.detail() : ""));
+
+        search.addValueChangeListener(e -> {
+            if (e.getValue() != null) {
+                openResult(e.getValue());
+                search.clear();
+            }
+        });
+        return search;
+    }
+
+    private void openResult(SearchResult result) {
+        Class<? extends Component> target = switch (result.type()) {
+            case STUDENT -> StudentListView.class;
+            case COURSE -> CourseListView.class;
+            case INTERACTION -> InteractionListView.class;
+        };
+        UI.getCurrent().navigate(target, SearchLink.to(result.id()));
+    }
+
     private void createDrawer() {
         SideNav nav = new SideNav();
 
@@ -27,6 +27,7 @@ public class CourseForm extends FormLayout {
     TextArea description = new TextArea("Description");
     IntegerField credits = new IntegerField("Credits");
     IntegerField durationWeeks = new IntegerField("Duration (weeks)");
+    IntegerField capacity = new IntegerField("Capacity");
     ComboBox<CourseLevel> level = new ComboBox<>("Level");
     ComboBox<Instructor> instructor = new ComboBox<>("Instructor");
 
@@ -46,7 +47,7 @@ public class CourseForm extends FormLayout {
 
         configureValidation();
 
-        add(courseCode, title, description, credits, durationWeeks, level, instructor,
+        add(courseCode, title, description, credits, durationWeeks, capacity, level, instructor,
                 createButtonsLayout());
     }
 
@@ -88,6 +89,15 @@ public class CourseForm extends FormLayout {
         durationWeeks.setMin(1);
         durationWeeks.setStepButtonsVisible(true);
 
+        // Capacity - Optional, must be positive when set
+        binder.forField(capacity)
+                .withValidator(value -> value == null || value > 0,
+                        "Capacity must be greater than 0")
+                .bind(Course::getCapacity, Course::setCapacity);
+        capacity.setHelperText("Leave empty for unlimited seats");
+        capacity.setMin(1);
+        capacity.setStepButtonsVisible(true);
+
         // Level - Required
         binder.forField(level)
                 .asRequired("Level is required")
@@ -6,27 +6,33 @@ import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.notification.Notification;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.router.BeforeEnterEvent;
+import com.vaadin.flow.router.BeforeEnterObserver;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
 import jakarta.annotation.security.PermitAll;
 import nibm.project.campus_office.entity.Course;
-import nibm.project.campus_office.repository.CourseRepository;
-import nibm.project.campus_office.repository.InstructorRepository;
+import nibm.project.campus_office.service.CourseService;
+import nibm.project.campus_office.service.InstructorService;
 import nibm.project.campus_office.views.MainLayout;
+import nibm.project.campus_office.views.util.ConflictDialog;
+import nibm.project.campus_office.views.util.PageRequestUtil;
+import nibm.project.campus_office.views.util.SearchLink;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 @Route(value = "courses", layout = MainLayout.class)
 @PageTitle("Courses | Diploma CRM")
 @PermitAll
-public class CourseListView extends VerticalLayout {
+public class CourseListView extends VerticalLayout implements BeforeEnterObserver {
 
-    private final CourseRepository courseRepo;
-    private final InstructorRepository instructorRepo;
+    private final CourseService courseService;
+    private final InstructorService instructorService;
     private final Grid<Course> grid = new Grid<>(Course.class, false);
     private CourseForm form;
 
-    public CourseListView(CourseRepository courseRepo, InstructorRepository instructorRepo) {
-        this.courseRepo = courseRepo;
-        this.instructorRepo = instructorRepo;
+    public CourseListView(CourseService courseService, InstructorService instructorService) {
+        this.courseService = courseService;
+        this.instructorService = instructorService;
         setSizeFull();
 
         configureGrid();
@@ -37,23 +43,31 @@ public class CourseListView extends VerticalLayout {
         closeEditor();
     }
 
+    // A global-search hit opens its course in the editor
+    @Override
+    public void beforeEnter(BeforeEnterEvent event) {
+        SearchLink.idFrom(event).flatMap(courseService::findById).ifPresent(this::editCourse);
+    }
+
     private void configureGrid() {
         grid.setSizeFull();
-        grid.addColumn(Course::getCourseCode).setHeader("Code").setSortable(true);
-        grid.addColumn(Course::getTitle).setHeader("Title").setSortable(true);
-        grid.addColumn(Course::getCredits).setHeader("Credits");
+        grid.addColumn(Course::getCourseCode).setHeader("Code").setSortProperty("courseCode");
+        grid.addColumn(Course::getTitle).setHeader("Title").setSortProperty("title");
+        grid.addColumn(Course::getCredits).setHeader("Credits").setSortProperty("credits");
         grid.addColumn(Course::getDurationWeeks).setHeader("Duration (weeks)");
-        grid.addColumn(Course::getLevel).setHeader("Level");
+        grid.addColumn(Course::getCapacity).setHeader("Capacity").setSortProperty("capacity");
+        grid.addColumn(Course::getLevel).setHeader("Level").setSortProperty("level");
         grid.addColumn(c -> c.getInstructor() != null ?
                         c.getInstructor().getFirstName() + " " + c.getInstructor().getLastName() : "")
                 .setHeader("Instructor");
 
         grid.getColumns().forEach(col -> col.setAutoWidth(true));
+        grid.setItems(PageRequestUtil.fetchPages("courses", courseService::list));
         grid.asSingleSelect().addValueChangeListener(e -> editCourse(e.getValue()));
     }
 
     private void configureForm() {
-        form = new CourseForm(instructorRepo.findAll());
+        form = new CourseForm(instructorService.findAll());
         form.setWidth("25em");
         form.addSaveListener(this::saveCourse);
         form.addDeleteListener(this::deleteCourse);
@@ -75,7 +89,7 @@ public class CourseListView extends VerticalLayout {
     }
 
     private void updateList() {
-        grid.setItems(courseRepo.findAll());
+        grid.getDataProvider().refreshAll();
     }
 
     private void addCourse() {
@@ -98,14 +112,28 @@ public class CourseListView extends VerticalLayout {
     }
 
     private void saveCourse(CourseForm.SaveEvent event) {
-        courseRepo.save(event.getCourse());
+        saveAndClose(event.getCourse());
+    }
+
+    private void saveAndClose(Course course) {
+        try {
+            courseService.save(course);
+        } catch (OptimisticLockingFailureException e) {
+            ConflictDialog.open(course, courseService::findById, this::reloadCourse, this::saveAndClose);
+            return;
+        }
         updateList();
         closeEditor();
         Notification.show("Course saved");
     }
 
+    private void reloadCourse(Course stored) {
+        updateList();
+        editCourse(stored);
+    }
+
     private void deleteCourse(CourseForm.DeleteEvent event) {
-        courseRepo.delete(event.getCourse());
+        courseService.delete(event.getCourse());
         updateList();
         closeEditor();
         Notification.show("Course deleted");
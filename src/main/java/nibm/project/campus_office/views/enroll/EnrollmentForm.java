@@ -14,16 +14,18 @@ import com.vaadin.flow.component.textfield.TextArea;
 import com.vaadin.flow.data.binder.BeanValidationBinder;
 import com.vaadin.flow.data.binder.Binder;
 import com.vaadin.flow.data.binder.ValidationException;
+import nibm.project.campus_office.dto.StudentOption;
 import nibm.project.campus_office.entity.Course;
 import nibm.project.campus_office.entity.Enrollment;
-import nibm.project.campus_office.entity.Student;
 import nibm.project.campus_office.enums.EnrollmentStatus;
+import nibm.project.campus_office.service.StudentService;
+import nibm.project.campus_office.views.util.StudentPicker;
 
 import java.util.List;
 
 public class EnrollmentForm extends FormLayout {
 
-    ComboBox<Student> student = new ComboBox<>("Student");
+    ComboBox<StudentOption> student = new ComboBox<>("Student");
     ComboBox<Course> course = new ComboBox<>("Course");
     DatePicker enrollmentDate = new DatePicker("Enrollment Date");
     DatePicker completionDate = new DatePicker("Completion Date");
@@ -38,11 +40,10 @@ public class EnrollmentForm extends FormLayout {
     private final Binder<Enrollment> binder = new BeanValidationBinder<>(Enrollment.class);
     private Enrollment enrollment;
 
-    public EnrollmentForm(List<Student> students, List<Course> courses) {
+    public EnrollmentForm(StudentService studentService, List<Course> courses) {
         addClassName("enrollment-form");
 
-        student.setItems(students);
-        student.setItemLabelGenerator(s -> s.getFirstName() + " " + s.getLastName() + " (" + s.getStudentId() + ")");
+        StudentPicker.configure(student, studentService);
 
         course.setItems(courses);
         course.setItemLabelGenerator(c -> c.getCourseCode() + " - " + c.getTitle());
@@ -60,6 +61,7 @@ public class EnrollmentForm extends FormLayout {
         // Student - Required
         binder.forField(student)
                 .asRequired("Student is required")
+                .withConverter(StudentPicker.converter(studentService))
                 .bind(Enrollment::getStudent, Enrollment::setStudent);
         student.setHelperText("Select student to enroll");
 
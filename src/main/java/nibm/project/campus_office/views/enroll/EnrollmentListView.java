@@ -9,11 +9,18 @@ import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
 import jakarta.annotation.security.PermitAll;
+import nibm.project.campus_office.dto.EnrollmentRow;
 import nibm.project.campus_office.entity.Enrollment;
+import nibm.project.campus_office.enums.EnrollmentStatus;
+import nibm.project.campus_office.exports.CsvExportService;
 import nibm.project.campus_office.service.CourseService;
 import nibm.project.campus_office.service.EnrollmentService;
 import nibm.project.campus_office.service.StudentService;
 import nibm.project.campus_office.views.MainLayout;
+import nibm.project.campus_office.views.util.ConflictDialog;
+import nibm.project.campus_office.views.util.CsvExportLink;
+import nibm.project.campus_office.views.util.PageRequestUtil;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.transaction.annotation.Transactional;
 
 @Route(value = "enrollments", layout = MainLayout.class)
@@ -25,14 +32,16 @@ public class EnrollmentListView extends VerticalLayout {
     private final EnrollmentService enrollmentService;
     private final StudentService studentService;
     private final CourseService courseService;
-    private final Grid<Enrollment> grid = new Grid<>(Enrollment.class, false);
+    private final CsvExportService exportService;
+    private final Grid<EnrollmentRow> grid = new Grid<>(EnrollmentRow.class, false);
     private EnrollmentForm form;
 
     public EnrollmentListView(EnrollmentService enrollmentService, StudentService studentService,
-                              CourseService courseService) {
+                              CourseService courseService, CsvExportService exportService) {
         this.enrollmentService = enrollmentService;
         this.studentService = studentService;
         this.courseService = courseService;
+        this.exportService = exportService;
         setSizeFull();
 
         configureGrid();
@@ -45,22 +54,23 @@ public class EnrollmentListView extends VerticalLayout {
 
     private void configureGrid() {
         grid.setSizeFull();
-        grid.addColumn(e -> e.getStudent().getFirstName() + " " + e.getStudent().getLastName())
-                .setHeader("Student").setSortable(true);
-        grid.addColumn(e -> e.getCourse().getTitle()).setHeader("Course").setSortable(true);
-        grid.addColumn(e -> e.getEnrollmentDate() != null ? e.getEnrollmentDate().toString() : "")
-                .setHeader("Enrollment Date");
-        grid.addColumn(Enrollment::getStatus).setHeader("Status");
-        grid.addColumn(Enrollment::getGrade).setHeader("Grade");
-        grid.addColumn(e -> e.getCompletionDate() != null ? e.getCompletionDate().toString() : "")
+        grid.addColumn(EnrollmentRow::studentName)
+                .setHeader("Student").setSortProperty("student.firstName", "student.lastName");
+        grid.addColumn(EnrollmentRow::courseTitle).setHeader("Course").setSortProperty("course.title");
+        grid.addColumn(e -> e.enrollmentDate() != null ? e.enrollmentDate().toString() : "")
+                .setHeader("Enrollment Date").setSortProperty("enrollmentDate");
+        grid.addColumn(EnrollmentRow::status).setHeader("Status").setSortProperty("status");
+        grid.addColumn(EnrollmentRow::grade).setHeader("Grade").setSortProperty("grade");
+        grid.addColumn(e -> e.completionDate() != null ? e.completionDate().toString() : "")
                 .setHeader("Completion Date");
 
         grid.getColumns().forEach(col -> col.setAutoWidth(true));
-        grid.asSingleSelect().addValueChangeListener(e -> editEnrollment(e.getValue()));
+        grid.setItems(PageRequestUtil.fetchPages("enrollments", enrollmentService::listRows));
+        grid.asSingleSelect().addValueChangeListener(e -> editSelected(e.getValue()));
     }
 
     private void configureForm() {
-        form = new EnrollmentForm(studentService.findAll(), courseService.findAll());
+        form = new EnrollmentForm(studentService, courseService.findAll());
         form.setWidth("25em");
         form.addSaveListener(this::saveEnrollment);
         form.addDeleteListener(this::deleteEnrollment);
@@ -70,7 +80,8 @@ public class EnrollmentListView extends VerticalLayout {
     private HorizontalLayout getToolbar() {
         Button addButton = new Button("Add Enrollment");
         addButton.addClickListener(e -> addEnrollment());
-        return new HorizontalLayout(addButton);
+        return new HorizontalLayout(addButton,
+                new CsvExportLink("enrollments.csv", (out, session) -> exportService.writeEnrollments(out)));
     }
 
     private Component getContent() {
@@ -82,7 +93,7 @@ public class EnrollmentListView extends VerticalLayout {
     }
 
     private void updateList() {
-        grid.setItems(enrollmentService.findAll());
+        grid.getDataProvider().refreshAll();
     }
 
     private void addEnrollment() {
@@ -90,6 +101,10 @@ public class EnrollmentListView extends VerticalLayout {
         editEnrollment(new Enrollment());
     }
 
+    private void editSelected(EnrollmentRow row) {
+        editEnrollment(row != null ? enrollmentService.findById(row.id()).orElse(null) : null);
+    }
+
     private void editEnrollment(Enrollment enrollment) {
         if (enrollment == null) {
             closeEditor();
@@ -105,10 +120,32 @@ public class EnrollmentListView extends VerticalLayout {
     }
 
     private void saveEnrollment(EnrollmentForm.SaveEvent event) {
-        enrollmentService.save(event.getEnrollment());
+        saveAndClose(event.getEnrollment());
+    }
+
+    private void saveAndClose(Enrollment enrollment) {
+        EnrollmentStatus requested = enrollment.getStatus();
+        Enrollment saved;
+        try {
+            saved = enrollmentService.save(enrollment);
+        } catch (OptimisticLockingFailureException e) {
+            // The service may have waitlisted it before the conflict; retry with what the user chose
+            enrollment.setStatus(requested);
+            ConflictDialog.open(enrollment, enrollmentService::findById, this::reloadEnrollment, this::saveAndClose);
+            return;
+        }
         updateList();
         closeEditor();
-        Notification.show("Enrollment saved");
+        if (saved.getStatus() == EnrollmentStatus.WAITLISTED && requested != EnrollmentStatus.WAITLISTED) {
+            Notification.show("Course is full, enrollment added to the waitlist");
+        } else {
+            Notification.show("Enrollment saved");
+        }
+    }
+
+    private void reloadEnrollment(Enrollment stored) {
+        updateList();
+        editEnrollment(stored);
     }
 
     private void deleteEnrollment(EnrollmentForm.DeleteEvent event) {
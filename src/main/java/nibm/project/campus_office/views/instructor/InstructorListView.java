@@ -10,20 +10,23 @@ import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
 import jakarta.annotation.security.PermitAll;
 import nibm.project.campus_office.entity.Instructor;
-import nibm.project.campus_office.repository.InstructorRepository;
+import nibm.project.campus_office.service.InstructorService;
 import nibm.project.campus_office.views.MainLayout;
+import nibm.project.campus_office.views.util.ConflictDialog;
+import nibm.project.campus_office.views.util.PageRequestUtil;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 @Route(value = "instructors", layout = MainLayout.class)
 @PageTitle("Instructors | Diploma CRM")
 @PermitAll
 public class InstructorListView extends VerticalLayout {
 
-    private final InstructorRepository instructorRepo;
+    private final InstructorService instructorService;
     private final Grid<Instructor> grid = new Grid<>(Instructor.class, false);
     private InstructorForm form;
 
-    public InstructorListView(InstructorRepository instructorRepo) {
-        this.instructorRepo = instructorRepo;
+    public InstructorListView(InstructorService instructorService) {
+        this.instructorService = instructorService;
         setSizeFull();
 
         configureGrid();
@@ -36,14 +39,15 @@ public class InstructorListView extends VerticalLayout {
 
     private void configureGrid() {
         grid.setSizeFull();
-        grid.addColumn(Instructor::getFirstName).setHeader("First Name").setSortable(true);
-        grid.addColumn(Instructor::getLastName).setHeader("Last Name").setSortable(true);
-        grid.addColumn(Instructor::getEmail).setHeader("Email");
+        grid.addColumn(Instructor::getFirstName).setHeader("First Name").setSortProperty("firstName");
+        grid.addColumn(Instructor::getLastName).setHeader("Last Name").setSortProperty("lastName");
+        grid.addColumn(Instructor::getEmail).setHeader("Email").setSortProperty("email");
         grid.addColumn(Instructor::getPhone).setHeader("Phone");
-        grid.addColumn(Instructor::getSpecialization).setHeader("Specialization");
+        grid.addColumn(Instructor::getSpecialization).setHeader("Specialization").setSortProperty("specialization");
         grid.addColumn(i -> i.getCourses().size()).setHeader("Courses");
 
         grid.getColumns().forEach(col -> col.setAutoWidth(true));
+        grid.setItems(PageRequestUtil.fetchPages("instructors", instructorService::listWithCourses));
         grid.asSingleSelect().addValueChangeListener(e -> editInstructor(e.getValue()));
     }
 
@@ -70,7 +74,7 @@ public class InstructorListView extends VerticalLayout {
     }
 
     private void updateList() {
-        grid.setItems(instructorRepo.findAll());
+        grid.getDataProvider().refreshAll();
     }
 
     private void addInstructor() {
@@ -93,14 +97,28 @@ public class InstructorListView extends VerticalLayout {
     }
 
     private void saveInstructor(InstructorForm.SaveEvent event) {
-        instructorRepo.save(event.getInstructor());
+        saveAndClose(event.getInstructor());
+    }
+
+    private void saveAndClose(Instructor instructor) {
+        try {
+            instructorService.save(instructor);
+        } catch (OptimisticLockingFailureException e) {
+            ConflictDialog.open(instructor, instructorService::findById, this::reloadInstructor, this::saveAndClose);
+            return;
+        }
         updateList();
         closeEditor();
         Notification.show("Instructor saved");
     }
 
+    private void reloadInstructor(Instructor stored) {
+        updateList();
+        editInstructor(stored);
+    }
+
     private void deleteInstructor(InstructorForm.DeleteEvent event) {
-        instructorRepo.delete(event.getInstructor());
+        instructorService.delete(event.getInstructor());
         updateList();
         closeEditor();
         Notification.show("Instructor deleted");
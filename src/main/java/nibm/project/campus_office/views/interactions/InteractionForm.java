@@ -14,15 +14,15 @@ import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.data.binder.BeanValidationBinder;
 import com.vaadin.flow.data.binder.Binder;
 import com.vaadin.flow.data.binder.ValidationException;
+import nibm.project.campus_office.dto.StudentOption;
 import nibm.project.campus_office.entity.Interaction;
-import nibm.project.campus_office.entity.Student;
 import nibm.project.campus_office.enums.InteractionType;
-
-import java.util.List;
+import nibm.project.campus_office.service.StudentService;
+import nibm.project.campus_office.views.util.StudentPicker;
 
 public class InteractionForm extends FormLayout {
 
-    ComboBox<Student> student = new ComboBox<>("Student");
+    ComboBox<StudentOption> student = new ComboBox<>("Student");
     ComboBox<InteractionType> type = new ComboBox<>("Type");
     TextField subject = new TextField("Subject");
     TextArea notes = new TextArea("Notes");
@@ -36,11 +36,10 @@ public class InteractionForm extends FormLayout {
     private final Binder<Interaction> binder = new BeanValidationBinder<>(Interaction.class);
     private Interaction interaction;
 
-    public InteractionForm(List<Student> students) {
+    public InteractionForm(StudentService studentService) {
         addClassName("interaction-form");
 
-        student.setItems(students);
-        student.setItemLabelGenerator(s -> s.getFirstName() + " " + s.getLastName());
+        StudentPicker.configure(student, studentService);
 
         type.setItems(InteractionType.values());
 
@@ -53,6 +52,7 @@ public class InteractionForm extends FormLayout {
         // Student - Required
         binder.forField(student)
                 .asRequired("Student is required")
+                .withConverter(StudentPicker.converter(studentService))
                 .bind(Interaction::getStudent, Interaction::setStudent);
         student.setHelperText("Select student for this interaction");
 
@@ -6,27 +6,39 @@ import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.notification.Notification;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.router.BeforeEnterEvent;
+import com.vaadin.flow.router.BeforeEnterObserver;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
 import jakarta.annotation.security.PermitAll;
+import nibm.project.campus_office.dto.InteractionRow;
 import nibm.project.campus_office.entity.Interaction;
-import nibm.project.campus_office.repository.InteractionRepository;
-import nibm.project.campus_office.repository.StudentRepository;
+import nibm.project.campus_office.exports.CsvExportService;
+import nibm.project.campus_office.service.InteractionService;
+import nibm.project.campus_office.service.StudentService;
 import nibm.project.campus_office.views.MainLayout;
+import nibm.project.campus_office.views.util.ConflictDialog;
+import nibm.project.campus_office.views.util.CsvExportLink;
+import nibm.project.campus_office.views.util.PageRequestUtil;
+import nibm.project.campus_office.views.util.SearchLink;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 @Route(value = "interactions", layout = MainLayout.class)
 @PageTitle("Interactions | Diploma CRM")
 @PermitAll
-public class InteractionListView extends VerticalLayout {
+public class InteractionListView extends VerticalLayout implements BeforeEnterObserver {
 
-    private final InteractionRepository interactionRepo;
-    private final StudentRepository studentRepo;
-    private final Grid<Interaction> grid = new Grid<>(Interaction.class, false);
+    private final InteractionService interactionService;
+    private final StudentService studentService;
+    private final CsvExportService exportService;
+    private final Grid<InteractionRow> grid = new Grid<>(InteractionRow.class, false);
     private InteractionForm form;
 
-    public InteractionListView(InteractionRepository interactionRepo, StudentRepository studentRepo) {
-        this.interactionRepo = interactionRepo;
-        this.studentRepo = studentRepo;
+    public InteractionListView(InteractionService interactionService, StudentService studentService,
+                               CsvExportService exportService) {
+        this.interactionService = interactionService;
+        this.studentService = studentService;
+        this.exportService = exportService;
         setSizeFull();
 
         configureGrid();
@@ -37,22 +49,29 @@ public class InteractionListView extends VerticalLayout {
         closeEditor();
     }
 
+    // A global-search hit opens its interaction in the editor
+    @Override
+    public void beforeEnter(BeforeEnterEvent event) {
+        SearchLink.idFrom(event).flatMap(interactionService::findById).ifPresent(this::editInteraction);
+    }
+
     private void configureGrid() {
         grid.setSizeFull();
-        grid.addColumn(i -> i.getStudent().getFirstName() + " " + i.getStudent().getLastName())
-                .setHeader("Student").setSortable(true);
-        grid.addColumn(Interaction::getType).setHeader("Type");
-        grid.addColumn(Interaction::getSubject).setHeader("Subject").setSortable(true);
-        grid.addColumn(i -> i.getInteractionDate() != null ? i.getInteractionDate().toString() : "")
-                .setHeader("Date");
-        grid.addColumn(Interaction::getContactedBy).setHeader("Contacted By");
+        grid.addColumn(InteractionRow::studentName)
+                .setHeader("Student").setSortProperty("student.firstName", "student.lastName");
+        grid.addColumn(InteractionRow::type).setHeader("Type").setSortProperty("type");
+        grid.addColumn(InteractionRow::subject).setHeader("Subject").setSortProperty("subject");
+        grid.addColumn(i -> i.interactionDate() != null ? i.interactionDate().toString() : "")
+                .setHeader("Date").setSortProperty("interactionDate");
+        grid.addColumn(InteractionRow::contactedBy).setHeader("Contacted By");
 
         grid.getColumns().forEach(col -> col.setAutoWidth(true));
-        grid.asSingleSelect().addValueChangeListener(e -> editInteraction(e.getValue()));
+        grid.setItems(PageRequestUtil.fetchPages("interactions", interactionService::listRows));
+        grid.asSingleSelect().addValueChangeListener(e -> editSelected(e.getValue()));
     }
 
     private void configureForm() {
-        form = new InteractionForm(studentRepo.findAll());
+        form = new InteractionForm(studentService);
         form.setWidth("25em");
         form.addSaveListener(this::saveInteraction);
         form.addDeleteListener(this::deleteInteraction);
@@ -62,7 +81,8 @@ public class InteractionListView extends VerticalLayout {
     private HorizontalLayout getToolbar() {
         Button addButton = new Button("Add Interaction");
         addButton.addClickListener(e -> addInteraction());
-        return new HorizontalLayout(addButton);
+        return new HorizontalLayout(addButton,
+                new CsvExportLink("interactions.csv", (out, session) -> exportService.writeInteractions(out)));
     }
 
     private Component getContent() {
@@ -74,7 +94,7 @@ public class InteractionListView extends VerticalLayout {
     }
 
     private void updateList() {
-        grid.setItems(interactionRepo.findAll());
+        grid.getDataProvider().refreshAll();
     }
 
     private void addInteraction() {
@@ -82,6 +102,10 @@ public class InteractionListView extends VerticalLayout {
         editInteraction(new Interaction());
     }
 
+    private void editSelected(InteractionRow row) {
+        editInteraction(row != null ? interactionService.findById(row.id()).orElse(null) : null);
+    }
+
     private void editInteraction(Interaction interaction) {
         if (interaction == null) {
             closeEditor();
@@ -97,14 +121,28 @@ public class InteractionListView extends VerticalLayout {
     }
 
     private void saveInteraction(InteractionForm.SaveEvent event) {
-        interactionRepo.save(event.getInteraction());
+        saveAndClose(event.getInteraction());
+    }
+
+    private void saveAndClose(Interaction interaction) {
+        try {
+            interactionService.save(interaction);
+        } catch (OptimisticLockingFailureException e) {
+            ConflictDialog.open(interaction, interactionService::findById, this::reloadInteraction, this::saveAndClose);
+            return;
+        }
         updateList();
         closeEditor();
         Notification.show("Interaction saved");
     }
 
+    private void reloadInteraction(Interaction stored) {
+        updateList();
+        editInteraction(stored);
+    }
+
     private void deleteInteraction(InteractionForm.DeleteEvent event) {
-        interactionRepo.delete(event.getInteraction());
+        interactionService.delete(event.getInteraction());
         updateList();
         closeEditor();
         Notification.show("Interaction deleted");
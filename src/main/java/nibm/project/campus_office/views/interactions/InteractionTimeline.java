@@ -0,0 +1,107 @@
+package nibm.project.campus_office.views.interactions;
+
+import com.vaadin.flow.component.html.Div;
+import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.component.orderedlayout.Scroller;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import nibm.project.campus_office.entity.Interaction;
+import nibm.project.campus_office.entity.Student;
+import nibm.project.campus_office.repository.InteractionRepository;
+import org.springframework.data.domain.Limit;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Scrollable, newest-first interaction history for one student. Rows are appended a page at
+ * a time as the user nears the bottom, each page seeking from the last row shown.
+ */
+public class InteractionTimeline extends Scroller {
+
+    private static final int PAGE_SIZE = 25;
+    // Load the next page once the user is within this many pixels of the bottom
+    private static final int LOAD_THRESHOLD_PX = 200;
+    private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+    private final InteractionRepository interactionRepository;
+    private final Student student;
+    private final VerticalLayout rows = new VerticalLayout();
+    private final Span endMarker = new Span("No more interactions");
+
+    private Interaction last;
+    private boolean exhausted;
+
+    public InteractionTimeline(InteractionRepository interactionRepository, Student student) {
+        this.interactionRepository = interactionRepository;
+        this.student = student;
+
+        rows.setPadding(false);
+        rows.setSpacing(true);
+        endMarker.getStyle().set("color", "#666").set("font-size", "14px");
+        endMarker.setVisible(false);
+        rows.add(endMarker);
+
+        setContent(rows);
+        setScrollDirection(ScrollDirection.VERTICAL);
+
+        getElement().addEventListener("scroll", e -> {
+                    double remaining = e.getEventData().getNumber("element.scrollHeight")
+                            - e.getEventData().getNumber("element.scrollTop")
+                            - e.getEventData().getNumber("element.clientHeight");
+                    if (remaining < LOAD_THRESHOLD_PX) {
+                        loadMore();
+                    }
+                })
+                .addEventData("element.scrollHeight")
+                .addEventData("element.scrollTop")
+                .addEventData("element.clientHeight")
+                .debounce(150);
+
+        loadMore();
+    }
+
+    private void loadMore() {
+        if (exhausted) {
+            return;
+        }
+
+        List<Interaction> page = last == null
+                ? interactionRepository.findLatestByStudent(student, Limit.of(PAGE_SIZE))
+                : interactionRepository.findByStudentAndInteractionDateBefore(
+                student, last.getInteractionDate(), last.getId(), Limit.of(PAGE_SIZE));
+
+        page.forEach(interaction -> rows.addComponentAtIndex(rows.indexOf(endMarker), createRow(interaction)));
+        if (!page.isEmpty()) {
+            last = page.get(page.size() - 1);
+        }
+        if (page.size() < PAGE_SIZE) {
+            exhausted = true;
+            endMarker.setVisible(true);
+        }
+    }
+
+    private Div createRow(Interaction interaction) {
+        Div row = new Div();
+        row.setWidthFull();
+        row.getStyle()
+                .set("border-left", "3px solid #2196F3")
+                .set("padding", "4px 12px");
+
+        Span heading = new Span(interaction.getInteractionDate().format(DATETIME_FORMATTER) + " · "
+                + interaction.getType() + " · " + interaction.getSubject());
+        heading.getStyle().set("font-weight", "bold");
+        row.add(heading);
+
+        if (interaction.getContactedBy() != null) {
+            Span contactedBy = new Span("by " + interaction.getContactedBy());
+            contactedBy.getStyle().set("color", "#666").set("margin-left", "8px");
+            row.add(contactedBy);
+        }
+        if (interaction.getNotes() != null && !interaction.getNotes().isBlank()) {
+            Div notes = new Div(interaction.getNotes());
+            notes.getStyle().set("color", "#444").set("font-size", "14px");
+            row.add(notes);
+        }
+        return row;
+    }
+}
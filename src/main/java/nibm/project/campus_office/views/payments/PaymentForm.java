@@ -16,17 +16,18 @@ import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.data.binder.BeanValidationBinder;
 import com.vaadin.flow.data.binder.Binder;
 import com.vaadin.flow.data.binder.ValidationException;
+import nibm.project.campus_office.dto.StudentOption;
 import nibm.project.campus_office.entity.Payment;
-import nibm.project.campus_office.entity.Student;
 import nibm.project.campus_office.enums.PaymentMethod;
 import nibm.project.campus_office.enums.PaymentStatus;
+import nibm.project.campus_office.service.StudentService;
+import nibm.project.campus_office.views.util.StudentPicker;
 
 import java.math.BigDecimal;
-import java.util.List;
 
 public class PaymentForm extends FormLayout {
 
-    ComboBox<Student> student = new ComboBox<>("Student");
+    ComboBox<StudentOption> student = new ComboBox<>("Student");
     NumberField amount = new NumberField("Amount");
     DatePicker paymentDate = new DatePicker("Payment Date");
     DatePicker dueDate = new DatePicker("Due Date");
@@ -42,11 +43,10 @@ public class PaymentForm extends FormLayout {
     private final Binder<Payment> binder = new BeanValidationBinder<>(Payment.class);
     private Payment payment;
 
-    public PaymentForm(List<Student> students) {
+    public PaymentForm(StudentService studentService) {
         addClassName("payment-form");
 
-        student.setItems(students);
-        student.setItemLabelGenerator(s -> s.getFirstName() + " " + s.getLastName());
+        StudentPicker.configure(student, studentService);
 
         status.setItems(PaymentStatus.values());
         method.setItems(PaymentMethod.values());
@@ -62,6 +62,7 @@ public class PaymentForm extends FormLayout {
         // Student - Required
         binder.forField(student)
                 .asRequired("Student is required")
+                .withConverter(StudentPicker.converter(studentService))
                 .bind(Payment::getStudent, Payment::setStudent);
         student.setHelperText("Select student for this payment");
 
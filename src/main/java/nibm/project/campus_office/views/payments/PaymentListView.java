@@ -9,24 +9,33 @@ import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
 import jakarta.annotation.security.PermitAll;
+import nibm.project.campus_office.dto.PaymentRow;
 import nibm.project.campus_office.entity.Payment;
-import nibm.project.campus_office.repository.PaymentRepository;
-import nibm.project.campus_office.repository.StudentRepository;
+import nibm.project.campus_office.exports.CsvExportService;
+import nibm.project.campus_office.service.PaymentService;
+import nibm.project.campus_office.service.StudentService;
 import nibm.project.campus_office.views.MainLayout;
+import nibm.project.campus_office.views.util.ConflictDialog;
+import nibm.project.campus_office.views.util.CsvExportLink;
+import nibm.project.campus_office.views.util.PageRequestUtil;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 @Route(value = "payments", layout = MainLayout.class)
 @PageTitle("Payments | Diploma CRM")
 @PermitAll
 public class PaymentListView extends VerticalLayout {
 
-    private final PaymentRepository paymentRepo;
-    private final StudentRepository studentRepo;
-    private final Grid<Payment> grid = new Grid<>(Payment.class, false);
+    private final PaymentService paymentService;
+    private final StudentService studentService;
+    private final CsvExportService exportService;
+    private final Grid<PaymentRow> grid = new Grid<>(PaymentRow.class, false);
     private PaymentForm form;
 
-    public PaymentListView(PaymentRepository paymentRepo, StudentRepository studentRepo) {
-        this.paymentRepo = paymentRepo;
-        this.studentRepo = studentRepo;
+    public PaymentListView(PaymentService paymentService, StudentService studentService,
+                           CsvExportService exportService) {
+        this.paymentService = paymentService;
+        this.studentService = studentService;
+        this.exportService = exportService;
         setSizeFull();
 
         configureGrid();
@@ -39,23 +48,24 @@ public class PaymentListView extends VerticalLayout {
 
     private void configureGrid() {
         grid.setSizeFull();
-        grid.addColumn(p -> p.getStudent().getFirstName() + " " + p.getStudent().getLastName())
-                .setHeader("Student").setSortable(true);
-        grid.addColumn(Payment::getAmount).setHeader("Amount");
-        grid.addColumn(p -> p.getPaymentDate() != null ? p.getPaymentDate().toString() : "")
-                .setHeader("Payment Date");
-        grid.addColumn(p -> p.getDueDate() != null ? p.getDueDate().toString() : "")
-                .setHeader("Due Date");
-        grid.addColumn(Payment::getStatus).setHeader("Status");
-        grid.addColumn(Payment::getMethod).setHeader("Method");
-        grid.addColumn(Payment::getTransactionId).setHeader("Transaction ID");
+        grid.addColumn(PaymentRow::studentName)
+                .setHeader("Student").setSortProperty("student.firstName", "student.lastName");
+        grid.addColumn(PaymentRow::amount).setHeader("Amount").setSortProperty("amount");
+        grid.addColumn(p -> p.paymentDate() != null ? p.paymentDate().toString() : "")
+                .setHeader("Payment Date").setSortProperty("paymentDate");
+        grid.addColumn(p -> p.dueDate() != null ? p.dueDate().toString() : "")
+                .setHeader("Due Date").setSortProperty("dueDate");
+        grid.addColumn(PaymentRow::status).setHeader("Status").setSortProperty("status");
+        grid.addColumn(PaymentRow::method).setHeader("Method");
+        grid.addColumn(PaymentRow::transactionId).setHeader("Transaction ID");
 
         grid.getColumns().forEach(col -> col.setAutoWidth(true));
-        grid.asSingleSelect().addValueChangeListener(e -> editPayment(e.getValue()));
+        grid.setItems(PageRequestUtil.fetchPages("payments", paymentService::listRows));
+        grid.asSingleSelect().addValueChangeListener(e -> editSelected(e.getValue()));
     }
 
     private void configureForm() {
-        form = new PaymentForm(studentRepo.findAll());
+        form = new PaymentForm(studentService);
         form.setWidth("25em");
         form.addSaveListener(this::savePayment);
         form.addDeleteListener(this::deletePayment);
@@ -65,7 +75,8 @@ public class PaymentListView extends VerticalLayout {
     private HorizontalLayout getToolbar() {
         Button addButton = new Button("Add Payment");
         addButton.addClickListener(e -> addPayment());
-        return new HorizontalLayout(addButton);
+        return new HorizontalLayout(addButton,
+                new CsvExportLink("payments.csv", (out, session) -> exportService.writePayments(out)));
     }
 
     private Component getContent() {
@@ -77,7 +88,7 @@ public class PaymentListView extends VerticalLayout {
     }
 
     private void updateList() {
-        grid.setItems(paymentRepo.findAll());
+        grid.getDataProvider().refreshAll();
     }
 
     private void addPayment() {
@@ -85,6 +96,10 @@ public class PaymentListView extends VerticalLayout {
         editPayment(new Payment());
     }
 
+    private void editSelected(PaymentRow row) {
+        editPayment(row != null ? paymentService.findById(row.id()).orElse(null) : null);
+    }
+
     private void editPayment(Payment payment) {
         if (payment == null) {
             closeEditor();
@@ -100,14 +115,28 @@ public class PaymentListView extends VerticalLayout {
     }
 
     private void savePayment(PaymentForm.SaveEvent event) {
-        paymentRepo.save(event.getPayment());
+        saveAndClose(event.getPayment());
+    }
+
+    private void saveAndClose(Payment payment) {
+        try {
+            paymentService.save(payment);
+        } catch (OptimisticLockingFailureException e) {
+            ConflictDialog.open(payment, paymentService::findById, this::reloadPayment, this::saveAndClose);
+            return;
+        }
         updateList();
         closeEditor();
         Notification.show("Payment saved");
     }
 
+    private void reloadPayment(Payment stored) {
+        updateList();
+        editPayment(stored);
+    }
+
     private void deletePayment(PaymentForm.DeleteEvent event) {
-        paymentRepo.delete(event.getPayment());
+        paymentService.delete(event.getPayment());
         updateList();
         closeEditor();
         Notification.show("Payment deleted");
@@ -0,0 +1,104 @@
+package nibm.project.campus_office.views.sudent;
+
+import lombok.extern.slf4j.Slf4j;
+import nibm.project.campus_office.enums.StudentStatus;
+import nibm.project.campus_office.repository.StudentRepository;
+import nibm.project.campus_office.repository.StudentRepository.StudentKey;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntConsumer;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Exports the reports of a whole cohort as one ZIP. Reports are rendered on virtual threads,
+ * each inside its own short read-only transaction, and written to the archive in completion
+ * order.
+ */
+@Slf4j
+@Service
+public class StudentCohortExporter {
+
+    // Rendered-but-unwritten documents held at once. Each one also holds a pooled connection
+    // while it renders, so this stays well below the Hikari pool size.
+    private static final int MAX_IN_FLIGHT = 4;
+
+    private final StudentRepository studentRepository;
+    private final StudentReportPdfGenerator pdfGenerator;
+
+    public StudentCohortExporter(StudentRepository studentRepository, StudentReportPdfGenerator pdfGenerator) {
+        this.studentRepository = studentRepository;
+        this.pdfGenerator = pdfGenerator;
+    }
+
+    public List<StudentKey> findCohort(StudentStatus status) {
+        return studentRepository.findByStatusOrderByIdAsc(status);
+    }
+
+    /**
+     * Streams one PDF entry per student into {@code out}. {@code progress} receives the number
+     * of reports written so far. The stream is finished but not closed.
+     */
+    public void writeCohortZip(List<StudentKey> cohort, OutputStream out, IntConsumer progress) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            CompletionService<RenderedReport> completion = new ExecutorCompletionService<>(executor);
+            int inFlight = 0;
+            int written = 0;
+
+            for (StudentKey key : cohort) {
+                if (inFlight == MAX_IN_FLIGHT) {
+                    writeEntry(zip, takeCompleted(completion));
+                    inFlight--;
+                    progress.accept(++written);
+                }
+                completion.submit(() -> new RenderedReport(
+                        "student_report_" + (key.getStudentId() != null ? key.getStudentId() : key.getId()) + ".pdf",
+                        pdfGenerator.generateStudentReport(key.getId())));
+                inFlight++;
+            }
+
+            while (inFlight > 0) {
+                writeEntry(zip, takeCompleted(completion));
+                inFlight--;
+                progress.accept(++written);
+            }
+
+            zip.finish();
+            log.info("Exported {} student reports", written);
+        } finally {
+            // Abandons renders still queued if the download was aborted
+            executor.shutdownNow();
+        }
+    }
+
+    private RenderedReport takeCompleted(CompletionService<RenderedReport> completion) throws IOException {
+        try {
+            return completion.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Cohort export interrupted");
+        } catch (ExecutionException e) {
+            throw new IOException("Error generating PDF report: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private void writeEntry(ZipOutputStream zip, RenderedReport report) throws IOException {
+        zip.putNextEntry(new ZipEntry(report.fileName()));
+        zip.write(report.content());
+        zip.closeEntry();
+    }
+
+    private record RenderedReport(String fileName, byte[] content) {
+    }
+}
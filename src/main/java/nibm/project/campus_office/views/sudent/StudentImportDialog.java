@@ -0,0 +1,102 @@
+package nibm.project.campus_office.views.sudent;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.dialog.Dialog;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.component.progressbar.ProgressBar;
+import com.vaadin.flow.component.upload.Upload;
+import com.vaadin.flow.component.upload.receivers.FileBuffer;
+import lombok.extern.slf4j.Slf4j;
+import nibm.project.campus_office.imports.StudentCsvImporter;
+import nibm.project.campus_office.imports.StudentImportReport;
+import nibm.project.campus_office.imports.StudentImportReport.RowError;
+
+import java.io.InputStream;
+
+/**
+ * Uploads a student CSV and shows the import summary with one line per rejected row. The
+ * upload is buffered to a temporary file and imported off the UI thread.
+ */
+@Slf4j
+public class StudentImportDialog extends Dialog {
+
+    private final StudentCsvImporter importer;
+    private final Runnable onImported;
+
+    private final FileBuffer buffer = new FileBuffer();
+    private final Upload upload = new Upload(buffer);
+    private final ProgressBar progress = new ProgressBar();
+    private final Span summary = new Span();
+    private final Grid<RowError> errors = new Grid<>(RowError.class, false);
+
+    public StudentImportDialog(StudentCsvImporter importer, Runnable onImported) {
+        this.importer = importer;
+        this.onImported = onImported;
+
+        setHeaderTitle("Import Students");
+        setWidth("50em");
+
+        upload.setAcceptedFileTypes("text/csv", ".csv");
+        upload.setMaxFiles(1);
+        upload.addSucceededListener(e -> runImport());
+
+        Span help = new Span("Columns: student_id, first_name, last_name, email, "
+                + "and optionally phone, status, enrollment_date, graduation_date (yyyy-MM-dd).");
+        help.getStyle().set("color", "#666").set("font-size", "14px");
+
+        progress.setIndeterminate(true);
+        progress.setVisible(false);
+
+        errors.addColumn(RowError::line).setHeader("Line").setAutoWidth(true);
+        errors.addColumn(RowError::studentId).setHeader("Student ID").setAutoWidth(true);
+        errors.addColumn(RowError::message).setHeader("Error");
+        errors.setHeight("20em");
+        errors.setVisible(false);
+
+        VerticalLayout content = new VerticalLayout(help, upload, progress, summary, errors);
+        content.setPadding(false);
+        add(content);
+
+        getFooter().add(new Button("Close", e -> close()));
+    }
+
+    private void runImport() {
+        UI ui = UI.getCurrent();
+        upload.setVisible(false);
+        progress.setVisible(true);
+        // The import runs on its own thread; polling carries the result back to this UI
+        ui.setPollInterval(500);
+
+        Thread.ofVirtual().name("student-import").start(() -> {
+            try (InputStream in = buffer.getInputStream()) {
+                StudentImportReport report = importer.importCsv(in);
+                ui.access(() -> showReport(report));
+            } catch (Exception e) {
+                log.warn("Student import failed", e);
+                ui.access(() -> summary.setText("Import failed: " + e.getMessage()));
+            } finally {
+                buffer.getFileData().getFile().delete();
+                ui.access(() -> {
+                    progress.setVisible(false);
+                    ui.setPollInterval(-1);
+                });
+            }
+        });
+    }
+
+    private void showReport(StudentImportReport report) {
+        summary.setText(String.format("Imported %d of %d rows in %d ms (%d rows/s); %d rejected.",
+                report.imported(), report.rows(), report.elapsed().toMillis(), report.rowsPerSecond(),
+                report.rejected()));
+        if (!report.errors().isEmpty()) {
+            errors.setItems(report.errors());
+            errors.setVisible(true);
+        }
+        if (report.imported() > 0) {
+            onImported.run();
+        }
+    }
+}
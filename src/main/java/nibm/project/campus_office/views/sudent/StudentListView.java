@@ -4,42 +4,68 @@ import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
+import com.vaadin.flow.component.combobox.ComboBox;
+import com.vaadin.flow.component.dialog.Dialog;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.icon.Icon;
 import com.vaadin.flow.component.icon.VaadinIcon;
 import com.vaadin.flow.component.notification.Notification;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.component.progressbar.ProgressBar;
 import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.data.value.ValueChangeMode;
+import com.vaadin.flow.router.BeforeEnterEvent;
+import com.vaadin.flow.router.BeforeEnterObserver;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
 import com.vaadin.flow.server.StreamResource;
 import com.vaadin.flow.server.VaadinSession;
 import jakarta.annotation.security.PermitAll;
 import nibm.project.campus_office.entity.Student;
+import nibm.project.campus_office.enums.StudentStatus;
+import nibm.project.campus_office.imports.StudentCsvImporter;
+import nibm.project.campus_office.repository.InteractionRepository;
 import nibm.project.campus_office.repository.StudentRepository;
+import nibm.project.campus_office.service.StudentService;
 import nibm.project.campus_office.views.MainLayout;
+import nibm.project.campus_office.views.interactions.InteractionTimeline;
+import nibm.project.campus_office.views.util.ConflictDialog;
+import nibm.project.campus_office.views.util.PageRequestUtil;
+import nibm.project.campus_office.views.util.SearchLink;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Pageable;
 
-import java.io.ByteArrayInputStream;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Route(value = "students", layout = MainLayout.class)
 @PageTitle("Students | Diploma CRM")
 @PermitAll
-public class StudentListView extends VerticalLayout {
+public class StudentListView extends VerticalLayout implements BeforeEnterObserver {
 
     private final StudentRepository studentRepository;
+    private final StudentService studentService;
     private final Grid<Student> grid = new Grid<>(Student.class, false);
     private final TextField filterText = new TextField();
+    private final ComboBox<StudentStatus> cohortStatus = new ComboBox<>();
+    private final ProgressBar exportProgress = new ProgressBar();
     private StudentForm form;
 
     private final StudentReportPdfGenerator pdfGenerator;
+    private final StudentCohortExporter cohortExporter;
+    private final InteractionRepository interactionRepository;
+    private final StudentCsvImporter csvImporter;
 
-    public StudentListView(StudentRepository studentRepository, StudentReportPdfGenerator pdfGenerator) {
+    public StudentListView(StudentRepository studentRepository, StudentService studentService,
+                           StudentReportPdfGenerator pdfGenerator,
+                           StudentCohortExporter cohortExporter, InteractionRepository interactionRepository,
+                           StudentCsvImporter csvImporter) {
         this.studentRepository = studentRepository;
+        this.studentService = studentService;
         this.pdfGenerator = pdfGenerator;
+        this.cohortExporter = cohortExporter;
+        this.interactionRepository = interactionRepository;
+        this.csvImporter = csvImporter;
         setSizeFull();
 
         configureGrid();
@@ -50,27 +76,39 @@ public class StudentListView extends VerticalLayout {
         closeEditor();
     }
 
+    // A global-search hit opens its student in the editor
+    @Override
+    public void beforeEnter(BeforeEnterEvent event) {
+        SearchLink.idFrom(event).flatMap(studentService::findById).ifPresent(this::editStudent);
+    }
+
     private void configureGrid() {
         grid.addClassName("student-grid");
         grid.setSizeFull();
-        grid.addColumn(Student::getStudentId).setHeader("Student ID").setSortable(true);
-        grid.addColumn(Student::getFirstName).setHeader("First Name").setSortable(true);
-        grid.addColumn(Student::getLastName).setHeader("Last Name").setSortable(true);
-        grid.addColumn(Student::getEmail).setHeader("Email");
+        grid.addColumn(Student::getStudentId).setHeader("Student ID").setSortProperty("studentId");
+        grid.addColumn(Student::getFirstName).setHeader("First Name").setSortProperty("firstName");
+        grid.addColumn(Student::getLastName).setHeader("Last Name").setSortProperty("lastName");
+        grid.addColumn(Student::getEmail).setHeader("Email").setSortProperty("email");
         grid.addColumn(Student::getPhone).setHeader("Phone");
-        grid.addColumn(Student::getStatus).setHeader("Status");
+        grid.addColumn(Student::getStatus).setHeader("Status").setSortProperty("status");
         grid.addColumn(s -> s.getEnrollmentDate() != null ? s.getEnrollmentDate().toString() : "")
-                .setHeader("Enrollment Date");
+                .setHeader("Enrollment Date").setSortProperty("enrollmentDate");
 
         grid.addComponentColumn(student -> {
             Button downloadBtn = new Button(new Icon(VaadinIcon.DOWNLOAD));
             downloadBtn.addThemeVariants(ButtonVariant.LUMO_SMALL, ButtonVariant.LUMO_TERTIARY);
             downloadBtn.addClickListener(e -> downloadStudentReport(student));
             downloadBtn.getElement().setAttribute("aria-label", "Download PDF");
-            return downloadBtn;
+
+            Button timelineBtn = new Button(new Icon(VaadinIcon.TIME_BACKWARD));
+            timelineBtn.addThemeVariants(ButtonVariant.LUMO_SMALL, ButtonVariant.LUMO_TERTIARY);
+            timelineBtn.addClickListener(e -> openTimeline(student));
+            timelineBtn.getElement().setAttribute("aria-label", "Interaction timeline");
+            return new HorizontalLayout(downloadBtn, timelineBtn);
         }).setHeader("Actions").setAutoWidth(true);
 
         grid.getColumns().forEach(col -> col.setAutoWidth(true));
+        grid.setItems(PageRequestUtil.fetchPages("students", this::fetchStudents));
         grid.asSingleSelect().addValueChangeListener(e -> editStudent(e.getValue()));
     }
 
@@ -91,7 +129,22 @@ public class StudentListView extends VerticalLayout {
         Button addButton = new Button("Add Student");
         addButton.addClickListener(e -> addStudent());
 
-        HorizontalLayout toolbar = new HorizontalLayout(filterText, addButton);
+        Button importButton = new Button("Import CSV", new Icon(VaadinIcon.UPLOAD));
+        importButton.addClickListener(e -> new StudentImportDialog(csvImporter, this::updateList).open());
+
+        cohortStatus.setPlaceholder("Cohort status...");
+        cohortStatus.setItems(StudentStatus.values());
+        cohortStatus.setItemLabelGenerator(StudentStatus::name);
+
+        Button exportButton = new Button("Export Cohort", new Icon(VaadinIcon.DOWNLOAD));
+        exportButton.addClickListener(e -> exportCohortReports());
+
+        exportProgress.setWidth("10em");
+        exportProgress.setVisible(false);
+
+        HorizontalLayout toolbar = new HorizontalLayout(filterText, addButton, importButton, cohortStatus, exportButton,
+                exportProgress);
+        toolbar.setDefaultVerticalComponentAlignment(Alignment.CENTER);
         toolbar.addClassName("toolbar");
         return toolbar;
     }
@@ -105,16 +158,15 @@ public class StudentListView extends VerticalLayout {
         return content;
     }
 
-    private void updateList() {
-        List<Student> students = studentRepository.findAll();
-        if (!filterText.isEmpty()) {
-            String filter = filterText.getValue().toLowerCase();
-            students = students.stream()
-                    .filter(s -> s.getFirstName().toLowerCase().contains(filter) ||
-                            s.getLastName().toLowerCase().contains(filter))
-                    .collect(Collectors.toList());
+    private List<Student> fetchStudents(Pageable pageable) {
+        if (filterText.isEmpty()) {
+            return studentRepository.findAllBy(pageable);
         }
-        grid.setItems(students);
+        return studentRepository.searchByName(filterText.getValue().trim(), pageable);
+    }
+
+    private void updateList() {
+        grid.getDataProvider().refreshAll();
     }
 
     private void addStudent() {
@@ -139,26 +191,56 @@ public class StudentListView extends VerticalLayout {
     }
 
     private void saveStudent(StudentForm.SaveEvent event) {
-        studentRepository.save(event.getStudent());
+        saveAndClose(event.getStudent());
+    }
+
+    private void saveAndClose(Student student) {
+        try {
+            studentService.save(student);
+        } catch (OptimisticLockingFailureException e) {
+            ConflictDialog.open(student, studentService::findById, this::reloadStudent, this::saveAndClose);
+            return;
+        }
         updateList();
         closeEditor();
         Notification.show("Student saved successfully");
     }
 
+    private void reloadStudent(Student stored) {
+        updateList();
+        editStudent(stored);
+    }
+
     private void deleteStudent(StudentForm.DeleteEvent event) {
-        studentRepository.delete(event.getStudent());
+        studentService.delete(event.getStudent());
         updateList();
         closeEditor();
         Notification.show("Student deleted");
     }
 
+    private void openTimeline(Student student) {
+        Dialog dialog = new Dialog();
+        dialog.setHeaderTitle("Interactions · " + student.getFirstName() + " " + student.getLastName());
+        dialog.setWidth("40em");
+
+        InteractionTimeline timeline = new InteractionTimeline(interactionRepository, student);
+        timeline.setHeight("30em");
+        dialog.add(timeline);
+
+        Button closeButton = new Button("Close", e -> dialog.close());
+        dialog.getFooter().add(closeButton);
+        dialog.open();
+    }
+
     private void downloadStudentReport(Student student) {
         try {
-            byte[] pdfBytes = pdfGenerator.generateStudentReport(student.getId());
+            Long id = student.getId();
 
+            // The writer runs when the browser requests the resource and streams the PDF
+            // straight into the response, so the document never sits in the heap
             StreamResource resource = new StreamResource(
                     "student_report_" + student.getStudentId() + ".pdf",
-                    () -> new ByteArrayInputStream(pdfBytes)
+                    (out, session) -> pdfGenerator.writeStudentReport(id, out)
             );
             resource.setContentType("application/pdf");
 
@@ -174,4 +256,45 @@ public class StudentListView extends VerticalLayout {
             e.printStackTrace();
         }
     }
-}
\ No newline at end of file
+
+    private void exportCohortReports() {
+        StudentStatus status = cohortStatus.getValue();
+        if (status == null) {
+            Notification.show("Select a cohort status to export");
+            return;
+        }
+
+        List<StudentRepository.StudentKey> cohort = cohortExporter.findCohort(status);
+        if (cohort.isEmpty()) {
+            Notification.show("No " + status.name() + " students to export");
+            return;
+        }
+
+        UI ui = UI.getCurrent();
+        exportProgress.setValue(0);
+        exportProgress.setVisible(true);
+        // Export runs in the download request; polling carries the progress back to this UI
+        ui.setPollInterval(1000);
+
+        StreamResource resource = new StreamResource(
+                "student_reports_" + status.name().toLowerCase() + ".zip",
+                (out, session) -> {
+                    try {
+                        cohortExporter.writeCohortZip(cohort, out, written ->
+                                ui.access(() -> exportProgress.setValue((double) written / cohort.size())));
+                    } finally {
+                        ui.access(() -> {
+                            exportProgress.setVisible(false);
+                            ui.setPollInterval(-1);
+                        });
+                    }
+                }
+        );
+        resource.setContentType("application/zip");
+
+        var registration = VaadinSession.getCurrent().getResourceRegistry().registerResource(resource);
+        ui.getPage().executeJs("window.open($0, '_blank')", registration.getResourceUri().toString());
+
+        Notification.show("Exporting " + cohort.size() + " reports");
+    }
+}
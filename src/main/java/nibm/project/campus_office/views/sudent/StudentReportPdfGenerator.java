@@ -1,112 +1,151 @@
 package nibm.project.campus_office.views.sudent;
 
-import com.itextpdf.kernel.colors.ColorConstants;
-import com.itextpdf.kernel.colors.DeviceRgb;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfWriter;
 import com.itextpdf.layout.Document;
 import com.itextpdf.layout.element.Cell;
 import com.itextpdf.layout.element.Paragraph;
 import com.itextpdf.layout.element.Table;
-import com.itextpdf.layout.properties.TextAlignment;
 import com.itextpdf.layout.properties.UnitValue;
 import nibm.project.campus_office.entity.*;
+import nibm.project.campus_office.monitoring.jfr.ReportGenerationEvent;
+import nibm.project.campus_office.repository.StudentBalanceRepository;
 import nibm.project.campus_office.repository.StudentRepository;
+import nibm.project.campus_office.views.sudent.StudentReportTemplate.ReportFonts;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.format.DateTimeFormatter;
 
 @Service
 public class StudentReportPdfGenerator {
 
     private final StudentRepository studentRepository;
+    private final StudentBalanceRepository studentBalanceRepository;
+    private final StudentReportTemplate template;
 
-    private static final DeviceRgb HEADER_COLOR = new DeviceRgb(41, 128, 185);
-    private static final DeviceRgb SECTION_COLOR = new DeviceRgb(52, 152, 219);
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
     private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+    // Rows rendered between large-table flushes; keeps the in-memory layout tree small
+    private static final int TABLE_FLUSH_INTERVAL = 100;
 
-    public StudentReportPdfGenerator(StudentRepository studentRepository) {
+    public StudentReportPdfGenerator(StudentRepository studentRepository,
+                                     StudentBalanceRepository studentBalanceRepository,
+                                     StudentReportTemplate template) {
         this.studentRepository = studentRepository;
+        this.studentBalanceRepository = studentBalanceRepository;
+        this.template = template;
     }
 
     @Transactional(readOnly = true)
     public byte[] generateStudentReport(Long studentId) {
-        Student student = studentRepository.findById(studentId)
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        writeStudentReport(studentId, baos);
+        return baos.toByteArray();
+    }
+
+    /**
+     * Renders the report straight into {@code out}. Pages and large-table rows are flushed as
+     * they complete, so memory stays flat regardless of how many rows the student has. The
+     * stream is left open for the caller.
+     */
+    @Transactional(readOnly = true)
+    public void writeStudentReport(Long studentId, OutputStream out) {
+        ReportGenerationEvent event = new ReportGenerationEvent();
+        event.studentId = studentId;
+        event.start();
+        CountingOutputStream counted = new CountingOutputStream(out);
+
+        // Enrollments (with course and instructor) come from the report fetch plan;
+        // payments and interactions are initialized lazily inside this transaction
+        Student student = studentRepository.findWithEnrollmentsById(studentId)
                 .orElseThrow(() -> new RuntimeException("Student not found"));
+        StudentBalance balance = studentBalanceRepository.findByStudentId(studentId).orElse(null);
 
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            // Initialize lazy collections
-            student.getEnrollments().size();
-            student.getPayments().size();
-            student.getInteractions().size();
+        render(student, balance, counted);
 
-            PdfWriter writer = new PdfWriter(baos);
+        event.rows = student.getEnrollments().size() + student.getPayments().size() + student.getInteractions().size();
+        event.bytes = counted.count;
+        event.finish();
+    }
+
+    /**
+     * Renders an already loaded student; all collections must be initialized. {@code balance}
+     * may be null for students who have never had a payment recorded.
+     */
+    public void render(Student student, StudentBalance balance, OutputStream out) {
+        try {
+            PdfWriter writer = new PdfWriter(out);
+            writer.setCloseStream(false);
             PdfDocument pdf = new PdfDocument(writer);
             Document document = new Document(pdf);
 
+            ReportFonts fonts = template.newFonts();
+            document.setFont(fonts.regular());
+
             // Header
-            addHeader(document, student);
+            addHeader(document, fonts, student);
 
             // Basic Information
-            addBasicInfo(document, student);
+            addBasicInfo(document, fonts, student, balance);
 
             // Enrollments
-            addEnrollments(document, student);
+            addEnrollments(document, fonts, student);
 
             // Payments
-            addPayments(document, student);
+            addPayments(document, fonts, student);
 
             // Interactions
-            addInteractions(document, student);
+            addInteractions(document, fonts, student);
 
             document.close();
-            return baos.toByteArray();
         } catch (Exception e) {
             e.printStackTrace();
             throw new RuntimeException("Error generating PDF report: " + e.getMessage(), e);
         }
     }
 
-    private void addHeader(Document document, Student student) {
+    private void addHeader(Document document, ReportFonts fonts, Student student) {
         Paragraph header = new Paragraph("STUDENT REPORT")
-                .setFontSize(24)
-                .setBold()
-                .setFontColor(HEADER_COLOR)
-                .setTextAlignment(TextAlignment.CENTER)
-                .setMarginBottom(10);
+                .addStyle(template.titleStyle())
+                .setFont(fonts.bold());
         document.add(header);
 
         Paragraph studentName = new Paragraph(student.getFirstName() + " " + student.getLastName())
-                .setFontSize(18)
-                .setTextAlignment(TextAlignment.CENTER)
-                .setMarginBottom(20);
+                .addStyle(template.subtitleStyle());
         document.add(studentName);
     }
 
-    private void addBasicInfo(Document document, Student student) {
-        addSectionTitle(document, "Basic Information");
+    private void addBasicInfo(Document document, ReportFonts fonts, Student student, StudentBalance balance) {
+        addSectionTitle(document, fonts, "Basic Information");
 
-        Table table = new Table(UnitValue.createPercentArray(new float[]{30, 70}))
-                .useAllAvailableWidth();
+        Table table = createTable(StudentReportTemplate.INFO_COLUMNS, false);
 
-        addInfoRow(table, "Student ID:", student.getStudentId());
-        addInfoRow(table, "Email:", student.getEmail());
-        addInfoRow(table, "Phone:", student.getPhone());
-        addInfoRow(table, "Status:", student.getStatus() != null ? student.getStatus().toString() : "N/A");
-        addInfoRow(table, "Enrollment Date:",
+        addInfoRow(table, fonts, "Student ID:", student.getStudentId());
+        addInfoRow(table, fonts, "Email:", student.getEmail());
+        addInfoRow(table, fonts, "Phone:", student.getPhone());
+        addInfoRow(table, fonts, "Status:", student.getStatus() != null ? student.getStatus().toString() : "N/A");
+        addInfoRow(table, fonts, "Enrollment Date:",
                 student.getEnrollmentDate() != null ? student.getEnrollmentDate().format(DATE_FORMATTER) : "N/A");
-        addInfoRow(table, "Graduation Date:",
+        addInfoRow(table, fonts, "Graduation Date:",
                 student.getGraduationDate() != null ? student.getGraduationDate().format(DATE_FORMATTER) : "N/A");
+        addInfoRow(table, fonts, "Outstanding:",
+                balance != null ? "Rs. " + balance.getOutstandingAmount() : "Rs. 0");
+        addInfoRow(table, fonts, "Overdue:",
+                balance != null ? "Rs. " + balance.getOverdueAmount() : "Rs. 0");
+        addInfoRow(table, fonts, "Next Due Date:",
+                balance != null && balance.getNextDueDate() != null ? balance.getNextDueDate().format(DATE_FORMATTER) : "N/A");
 
         document.add(table);
         document.add(new Paragraph("\n"));
     }
 
-    private void addEnrollments(Document document, Student student) {
-        addSectionTitle(document, "Course Enrollments");
+    private void addEnrollments(Document document, ReportFonts fonts, Student student) {
+        addSectionTitle(document, fonts, "Course Enrollments");
 
         if (student.getEnrollments().isEmpty()) {
             document.add(new Paragraph("No enrollments found.").setItalic());
@@ -114,11 +153,12 @@ public class StudentReportPdfGenerator {
             return;
         }
 
-        Table table = new Table(UnitValue.createPercentArray(new float[]{20, 30, 15, 15, 20}))
-                .useAllAvailableWidth();
+        Table table = createTable(StudentReportTemplate.ENROLLMENT_COLUMNS, true);
 
-        addTableHeader(table, "Course Code", "Course Title", "Status", "Grade", "Enrollment Date");
+        addTableHeader(table, fonts, "Course Code", "Course Title", "Status", "Grade", "Enrollment Date");
+        document.add(table);
 
+        int rows = 0;
         for (Enrollment enrollment : student.getEnrollments()) {
             Course course = enrollment.getCourse();
             table.addCell(createCell(course != null ? course.getCourseCode() : "N/A"));
@@ -127,14 +167,15 @@ public class StudentReportPdfGenerator {
             table.addCell(createCell(enrollment.getGrade() != null ? String.format("%.2f", enrollment.getGrade()) : "N/A"));
             table.addCell(createCell(enrollment.getEnrollmentDate() != null ?
                     enrollment.getEnrollmentDate().format(DATE_FORMATTER) : "N/A"));
+            flushPeriodically(table, ++rows);
         }
 
-        document.add(table);
+        table.complete();
         document.add(new Paragraph("\n"));
     }
 
-    private void addPayments(Document document, Student student) {
-        addSectionTitle(document, "Payment History");
+    private void addPayments(Document document, ReportFonts fonts, Student student) {
+        addSectionTitle(document, fonts, "Payment History");
 
         if (student.getPayments().isEmpty()) {
             document.add(new Paragraph("No payments found.").setItalic());
@@ -142,11 +183,12 @@ public class StudentReportPdfGenerator {
             return;
         }
 
-        Table table = new Table(UnitValue.createPercentArray(new float[]{15, 15, 15, 15, 20, 20}))
-                .useAllAvailableWidth();
+        Table table = createTable(StudentReportTemplate.PAYMENT_COLUMNS, true);
 
-        addTableHeader(table, "Amount", "Status", "Method", "Payment Date", "Due Date", "Transaction ID");
+        addTableHeader(table, fonts, "Amount", "Status", "Method", "Payment Date", "Due Date", "Transaction ID");
+        document.add(table);
 
+        int rows = 0;
         for (Payment payment : student.getPayments()) {
             table.addCell(createCell(payment.getAmount() != null ? "Rs. " + payment.getAmount() : "N/A"));
             table.addCell(createCell(payment.getStatus() != null ? payment.getStatus().toString() : "N/A"));
@@ -156,14 +198,15 @@ public class StudentReportPdfGenerator {
             table.addCell(createCell(payment.getDueDate() != null ?
                     payment.getDueDate().format(DATE_FORMATTER) : "N/A"));
             table.addCell(createCell(payment.getTransactionId() != null ? payment.getTransactionId() : "N/A"));
+            flushPeriodically(table, ++rows);
         }
 
-        document.add(table);
+        table.complete();
         document.add(new Paragraph("\n"));
     }
 
-    private void addInteractions(Document document, Student student) {
-        addSectionTitle(document, "Interaction History");
+    private void addInteractions(Document document, ReportFonts fonts, Student student) {
+        addSectionTitle(document, fonts, "Interaction History");
 
         if (student.getInteractions().isEmpty()) {
             document.add(new Paragraph("No interactions found.").setItalic());
@@ -171,11 +214,12 @@ public class StudentReportPdfGenerator {
             return;
         }
 
-        Table table = new Table(UnitValue.createPercentArray(new float[]{15, 25, 20, 20, 20}))
-                .useAllAvailableWidth();
+        Table table = createTable(StudentReportTemplate.INTERACTION_COLUMNS, true);
 
-        addTableHeader(table, "Type", "Subject", "Date", "Contacted By", "Notes");
+        addTableHeader(table, fonts, "Type", "Subject", "Date", "Contacted By", "Notes");
+        document.add(table);
 
+        int rows = 0;
         for (Interaction interaction : student.getInteractions()) {
             table.addCell(createCell(interaction.getType() != null ? interaction.getType().toString() : "N/A"));
             table.addCell(createCell(interaction.getSubject()));
@@ -185,36 +229,66 @@ public class StudentReportPdfGenerator {
             table.addCell(createCell(interaction.getNotes() != null ?
                     (interaction.getNotes().length() > 50 ? interaction.getNotes().substring(0, 47) + "..." : interaction.getNotes())
                     : "N/A"));
+            flushPeriodically(table, ++rows);
         }
 
-        document.add(table);
+        table.complete();
+    }
+
+    private void flushPeriodically(Table table, int rows) {
+        if (rows % TABLE_FLUSH_INTERVAL == 0) {
+            table.flush();
+        }
     }
 
-    private void addSectionTitle(Document document, String title) {
+    private void addSectionTitle(Document document, ReportFonts fonts, String title) {
         Paragraph section = new Paragraph(title)
-                .setFontSize(14)
-                .setBold()
-                .setFontColor(SECTION_COLOR)
-                .setMarginBottom(10)
-                .setMarginTop(5);
+                .addStyle(template.sectionTitleStyle())
+                .setFont(fonts.bold());
         document.add(section);
     }
 
-    private void addInfoRow(Table table, String label, String value) {
-        table.addCell(createCell(label).setBold());
+    private void addInfoRow(Table table, ReportFonts fonts, String label, String value) {
+        table.addCell(createCell(label).setFont(fonts.bold()));
         table.addCell(createCell(value != null ? value : "N/A"));
     }
 
-    private void addTableHeader(Table table, String... headers) {
+    private void addTableHeader(Table table, ReportFonts fonts, String... headers) {
         for (String header : headers) {
             table.addHeaderCell(createCell(header)
-                    .setBold()
-                    .setBackgroundColor(SECTION_COLOR)
-                    .setFontColor(ColorConstants.WHITE));
+                    .addStyle(template.headerCellStyle())
+                    .setFont(fonts.bold()));
         }
     }
 
+    private Table createTable(float[] columns, boolean largeTable) {
+        return new Table(UnitValue.createPercentArray(columns), largeTable)
+                .useAllAvailableWidth()
+                .addStyle(template.tableStyle());
+    }
+
     private Cell createCell(String content) {
-        return new Cell().add(new Paragraph(content).setFontSize(10));
+        return new Cell().add(new Paragraph(content));
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
     }
 }
@@ -0,0 +1,114 @@
+package nibm.project.campus_office.views.sudent;
+
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.kernel.colors.ColorConstants;
+import com.itextpdf.kernel.colors.DeviceRgb;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.layout.Style;
+import com.itextpdf.layout.properties.TextAlignment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Shared, thread-safe building blocks for {@link StudentReportPdfGenerator}. Font programs are
+ * parsed once and the styles are built once; only the document-bound {@link PdfFont}
+ * wrappers are created per report.
+ * <p>
+ * The {@link Style} instances are fully configured in the constructor and must not be mutated
+ * afterwards, because every concurrently rendering report reads them.
+ */
+@Component
+public class StudentReportTemplate {
+
+    static final DeviceRgb HEADER_COLOR = new DeviceRgb(41, 128, 185);
+    static final DeviceRgb SECTION_COLOR = new DeviceRgb(52, 152, 219);
+
+    static final float[] INFO_COLUMNS = {30, 70};
+    static final float[] ENROLLMENT_COLUMNS = {20, 30, 15, 15, 20};
+    static final float[] PAYMENT_COLUMNS = {15, 15, 15, 15, 20, 20};
+    static final float[] INTERACTION_COLUMNS = {15, 25, 20, 20, 20};
+
+    private final FontProgram regularProgram;
+    private final FontProgram boldProgram;
+
+    private final Style titleStyle;
+    private final Style subtitleStyle;
+    private final Style sectionTitleStyle;
+    private final Style tableStyle;
+    private final Style headerCellStyle;
+
+    public StudentReportTemplate() {
+        try {
+            regularProgram = FontProgramFactory.createFont(StandardFonts.HELVETICA);
+            boldProgram = FontProgramFactory.createFont(StandardFonts.HELVETICA_BOLD);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to load report fonts", e);
+        }
+
+        titleStyle = new Style()
+                .setFontSize(24)
+                .setFontColor(HEADER_COLOR)
+                .setTextAlignment(TextAlignment.CENTER)
+                .setMarginBottom(10);
+
+        subtitleStyle = new Style()
+                .setFontSize(18)
+                .setTextAlignment(TextAlignment.CENTER)
+                .setMarginBottom(20);
+
+        sectionTitleStyle = new Style()
+                .setFontSize(14)
+                .setFontColor(SECTION_COLOR)
+                .setMarginBottom(10)
+                .setMarginTop(5);
+
+        // Font size is inherited, so setting it on the table spares a property per cell
+        tableStyle = new Style()
+                .setFontSize(10);
+
+        headerCellStyle = new Style()
+                .setBackgroundColor(SECTION_COLOR)
+                .setFontColor(ColorConstants.WHITE);
+    }
+
+    /**
+     * Wraps the cached font programs in new {@link PdfFont}s. A {@code PdfFont} is bound to the
+     * first document that uses it, so call this once per report; it is the only per-report
+     * font work.
+     */
+    public ReportFonts newFonts() throws IOException {
+        return new ReportFonts(
+                PdfFontFactory.createFont(regularProgram, PdfEncodings.WINANSI),
+                PdfFontFactory.createFont(boldProgram, PdfEncodings.WINANSI)
+        );
+    }
+
+    public Style titleStyle() {
+        return titleStyle;
+    }
+
+    public Style subtitleStyle() {
+        return subtitleStyle;
+    }
+
+    public Style sectionTitleStyle() {
+        return sectionTitleStyle;
+    }
+
+    public Style tableStyle() {
+        return tableStyle;
+    }
+
+    public Style headerCellStyle() {
+        return headerCellStyle;
+    }
+
+    public record ReportFonts(PdfFont regular, PdfFont bold) {
+    }
+}
@@ -3,18 +3,30 @@ package nibm.project.campus_office.views.user;
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.html.Anchor;
+import com.vaadin.flow.component.icon.Icon;
+import com.vaadin.flow.component.icon.VaadinIcon;
 import com.vaadin.flow.component.notification.Notification;
 import com.vaadin.flow.component.notification.NotificationVariant;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
+import com.vaadin.flow.server.StreamResource;
 import jakarta.annotation.security.RolesAllowed;
 import nibm.project.campus_office.entity.User;
+import nibm.project.campus_office.monitoring.jfr.ContinuousRecording;
 import nibm.project.campus_office.repository.UserRepository;
+import nibm.project.campus_office.security.CaffeineUserCache;
 import nibm.project.campus_office.views.MainLayout;
+import nibm.project.campus_office.views.util.ConflictDialog;
+import nibm.project.campus_office.views.util.PageRequestUtil;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.io.InputStream;
+
 @Route(value = "users", layout = MainLayout.class)
 @PageTitle("Users | Diploma CRM")
 @RolesAllowed("ADMIN")
@@ -22,12 +34,17 @@ public class UserListView extends VerticalLayout {
 
     private final UserRepository userRepo;
     private final PasswordEncoder passwordEncoder;
+    private final CaffeineUserCache userCache;
+    private final ObjectProvider<ContinuousRecording> recording;
     private final Grid<User> grid = new Grid<>(User.class, false);
     private UserForm form;
 
-    public UserListView(UserRepository userRepo, PasswordEncoder passwordEncoder) {
+    public UserListView(UserRepository userRepo, PasswordEncoder passwordEncoder, CaffeineUserCache userCache,
+                        ObjectProvider<ContinuousRecording> recording) {
         this.userRepo = userRepo;
         this.passwordEncoder = passwordEncoder;
+        this.userCache = userCache;
+        this.recording = recording;
         setSizeFull();
 
         configureGrid();
@@ -40,15 +57,16 @@ public class UserListView extends VerticalLayout {
 
     private void configureGrid() {
         grid.setSizeFull();
-        grid.addColumn(User::getUsername).setHeader("Username").setSortable(true);
-        grid.addColumn(User::getFirstName).setHeader("First Name").setSortable(true);
-        grid.addColumn(User::getLastName).setHeader("Last Name").setSortable(true);
-        grid.addColumn(User::getEmail).setHeader("Email").setSortable(true);
-        grid.addColumn(User::getRole).setHeader("Role").setSortable(true);
+        grid.addColumn(User::getUsername).setHeader("Username").setSortProperty("username");
+        grid.addColumn(User::getFirstName).setHeader("First Name").setSortProperty("firstName");
+        grid.addColumn(User::getLastName).setHeader("Last Name").setSortProperty("lastName");
+        grid.addColumn(User::getEmail).setHeader("Email").setSortProperty("email");
+        grid.addColumn(User::getRole).setHeader("Role").setSortProperty("role");
         grid.addColumn(user -> user.getEnabled() ? "Yes" : "No").setHeader("Enabled");
         grid.addColumn(user -> user.getAccountNonLocked() ? "Yes" : "No").setHeader("Unlocked");
 
         grid.getColumns().forEach(col -> col.setAutoWidth(true));
+        grid.setItems(PageRequestUtil.fetchPages("users", userRepo::findAllBy));
         grid.asSingleSelect().addValueChangeListener(e -> editUser(e.getValue()));
     }
 
@@ -64,7 +82,27 @@ public class UserListView extends VerticalLayout {
     private HorizontalLayout getToolbar() {
         Button addButton = new Button("Add User");
         addButton.addClickListener(e -> addUser());
-        return new HorizontalLayout(addButton);
+
+        HorizontalLayout toolbar = new HorizontalLayout(addButton);
+        recording.ifAvailable(continuous -> toolbar.add(recordingLink(continuous)));
+        return toolbar;
+    }
+
+    // Dumps the rolling JFR recording when clicked, for analysing a stall offline in JMC
+    private Anchor recordingLink(ContinuousRecording continuous) {
+        StreamResource resource = new StreamResource("campus-office.jfr",
+                (out, session) -> {
+                    try (InputStream dump = continuous.openDump()) {
+                        dump.transferTo(out);
+                    }
+                });
+        resource.setContentType("application/octet-stream");
+        resource.setCacheTime(0);
+
+        Anchor link = new Anchor(resource, "");
+        link.getElement().setAttribute("download", true);
+        link.add(new Button("Download JFR Recording", new Icon(VaadinIcon.DOWNLOAD)));
+        return link;
     }
 
     private Component getContent() {
@@ -76,7 +114,7 @@ public class UserListView extends VerticalLayout {
     }
 
     private void updateList() {
-        grid.setItems(userRepo.findAll());
+        grid.getDataProvider().refreshAll();
     }
 
     private void addUser() {
@@ -99,21 +137,34 @@ public class UserListView extends VerticalLayout {
     }
 
     private void saveUser(UserForm.SaveEvent event) {
+        saveAndClose(event.getUser());
+    }
+
+    private void saveAndClose(User user) {
         try {
-            userRepo.save(event.getUser());
+            userRepo.save(user);
+            userCache.clear();
             updateList();
             closeEditor();
             Notification.show("User saved successfully")
                     .addThemeVariants(NotificationVariant.LUMO_SUCCESS);
+        } catch (OptimisticLockingFailureException e) {
+            ConflictDialog.open(user, userRepo::findById, this::reloadUser, this::saveAndClose);
         } catch (Exception e) {
             Notification.show("Error saving user: " + e.getMessage())
                     .addThemeVariants(NotificationVariant.LUMO_ERROR);
         }
     }
 
+    private void reloadUser(User stored) {
+        updateList();
+        editUser(stored);
+    }
+
     private void deleteUser(UserForm.DeleteEvent event) {
         try {
             userRepo.delete(event.getUser());
+            userCache.clear();
             updateList();
             closeEditor();
             Notification.show("User deleted successfully")
@@ -129,6 +180,7 @@ public class UserListView extends VerticalLayout {
             User user = event.getUser();
             user.setPassword(event.getHashedPassword());
             userRepo.save(user);
+            userCache.clear();
             Notification.show("Password reset successfully")
                     .addThemeVariants(NotificationVariant.LUMO_SUCCESS);
         } catch (Exception e) {
@@ -0,0 +1,55 @@
+package nibm.project.campus_office.views.util;
+
+import com.vaadin.flow.component.confirmdialog.ConfirmDialog;
+import com.vaadin.flow.component.notification.Notification;
+import com.vaadin.flow.component.notification.NotificationVariant;
+import nibm.project.campus_office.entity.BaseEntity;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Shown when a save fails its optimistic lock check because someone else saved the same record
+ * after it was opened. The user either reloads the stored version into the form, dropping their
+ * edits, or saves their edits over it.
+ */
+public final class ConflictDialog {
+
+    private ConflictDialog() {
+    }
+
+    /**
+     * @param edited    the entity whose save was rejected
+     * @param loader    loads the current stored version by id
+     * @param reload    shows the stored version in the form; receives {@code null} if the record
+     *                  has been deleted meanwhile
+     * @param overwrite saves the edited entity again, now carrying the stored version
+     */
+    public static <T extends BaseEntity> void open(T edited, Function<Long, Optional<T>> loader,
+                                                   Consumer<T> reload, Consumer<T> overwrite) {
+        Optional<T> stored = loader.apply(edited.getId());
+        if (stored.isEmpty()) {
+            Notification.show("This record was deleted by another user")
+                    .addThemeVariants(NotificationVariant.LUMO_ERROR);
+            reload.accept(null);
+            return;
+        }
+
+        ConfirmDialog dialog = new ConfirmDialog();
+        dialog.setHeader("Record changed by another user");
+        dialog.setText("Someone else saved this record after you opened it. Reload their version and "
+                + "discard your changes, or save your changes over theirs?");
+        dialog.setCancelable(true);
+        dialog.setRejectable(true);
+        dialog.setRejectText("Reload");
+        dialog.addRejectListener(e -> reload.accept(stored.get()));
+        dialog.setConfirmText("Overwrite");
+        dialog.setConfirmButtonTheme("error primary");
+        dialog.addConfirmListener(e -> {
+            edited.setVersion(stored.get().getVersion());
+            overwrite.accept(edited);
+        });
+        dialog.open();
+    }
+}
@@ -0,0 +1,25 @@
+package nibm.project.campus_office.views.util;
+
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.html.Anchor;
+import com.vaadin.flow.component.icon.Icon;
+import com.vaadin.flow.component.icon.VaadinIcon;
+import com.vaadin.flow.server.StreamResource;
+import com.vaadin.flow.server.StreamResourceWriter;
+
+/**
+ * Toolbar download link for a CSV export. The writer runs when the browser requests the file
+ * and streams straight into the response, so the download starts at the first row.
+ */
+public class CsvExportLink extends Anchor {
+
+    public CsvExportLink(String fileName, StreamResourceWriter writer) {
+        StreamResource resource = new StreamResource(fileName, writer);
+        resource.setContentType("text/csv");
+        resource.setCacheTime(0);
+
+        setHref(resource);
+        getElement().setAttribute("download", true);
+        add(new Button("Export CSV", new Icon(VaadinIcon.DOWNLOAD)));
+    }
+}
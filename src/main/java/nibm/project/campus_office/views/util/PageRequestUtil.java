@@ -0,0 +1,50 @@
+package nibm.project.campus_office.views.util;
+
+import com.vaadin.flow.data.provider.CallbackDataProvider;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.spring.data.VaadinSpringDataHelpers;
+import nibm.project.campus_office.monitoring.jfr.GridFetchEvent;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Translates a Vaadin lazy-loading {@link Query} into a Spring Data {@link Pageable}, so grids
+ * fetch only the rows in their viewport and sorting happens in SQL.
+ */
+public final class PageRequestUtil {
+
+    private PageRequestUtil() {
+    }
+
+    public static Pageable toPageRequest(Query<?, ?> query) {
+        Pageable pageable = VaadinSpringDataHelpers.toSpringPageRequest(query);
+        // Always break ties on the primary key so consecutive pages never overlap
+        Sort sort = pageable.getSort().and(Sort.by("id"));
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+    }
+
+    /**
+     * Lazy-loading callback for a grid: each page is fetched through {@code fetch} and recorded
+     * as a {@link GridFetchEvent} named {@code grid}.
+     */
+    public static <T> CallbackDataProvider.FetchCallback<T, Void> fetchPages(String grid,
+                                                                          Function<Pageable, List<T>> fetch) {
+        return query -> {
+            Pageable pageable = toPageRequest(query);
+            GridFetchEvent event = new GridFetchEvent();
+            event.start();
+            List<T> rows = fetch.apply(pageable);
+            event.grid = grid;
+            event.offset = query.getOffset();
+            event.limit = query.getLimit();
+            event.sort = pageable.getSort().toString();
+            event.rows = rows.size();
+            event.finish();
+            return rows.stream();
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package nibm.project.campus_office.views.util;
+
+import com.vaadin.flow.router.BeforeEnterEvent;
+import com.vaadin.flow.router.QueryParameters;
+
+import java.util.Optional;
+
+/**
+ * The {@code ?id=} query parameter a global-search hit navigates with, so the target list view
+ * can open that record in its editor.
+ */
+public final class SearchLink {
+
+    private static final String ID = "id";
+
+    private SearchLink() {
+    }
+
+    public static QueryParameters to(Long id) {
+        return QueryParameters.of(ID, String.valueOf(id));
+    }
+
+    public static Optional<Long> idFrom(BeforeEnterEvent event) {
+        return event.getLocation().getQueryParameters().getSingleParameter(ID).flatMap(value -> {
+            try {
+                return Optional.of(Long.valueOf(value));
+            } catch (NumberFormatException e) {
+                return Optional.empty();
+            }
+        });
+    }
+}
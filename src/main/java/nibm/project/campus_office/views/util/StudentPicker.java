@@ -0,0 +1,70 @@
+package nibm.project.campus_office.views.util;
+
+import com.vaadin.flow.component.combobox.ComboBox;
+import com.vaadin.flow.data.binder.Result;
+import com.vaadin.flow.data.binder.ValueContext;
+import com.vaadin.flow.data.converter.Converter;
+import nibm.project.campus_office.dto.StudentOption;
+import nibm.project.campus_office.entity.Student;
+import nibm.project.campus_office.service.StudentService;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * Wires a student {@link ComboBox} to a lazy, prefix-filtered projection query, so a form only
+ * ever holds the page of options the dropdown is showing.
+ */
+public final class StudentPicker {
+
+    private StudentPicker() {
+    }
+
+    public static void configure(ComboBox<StudentOption> comboBox, StudentService studentService) {
+        comboBox.setItems(query -> studentService.findOptions(
+                query.getFilter().orElse(""),
+                PageRequest.of(query.getPage(), query.getPageSize())).stream());
+        comboBox.setItemLabelGenerator(StudentOption::label);
+    }
+
+    /**
+     * Binds the option back to the entity. The student is loaded rather than referenced by id:
+     * the bean outlives the request, and an uninitialized proxy would fail the next time the
+     * form reads it back into an option. The binder converts on every value change and
+     * validation, so the student last bound or picked is kept and only a newly picked one is
+     * queried.
+     */
+    public static Converter<StudentOption, Student> converter(StudentService studentService) {
+        return new StudentConverter(studentService);
+    }
+
+    private static final class StudentConverter implements Converter<StudentOption, Student> {
+
+        private final StudentService studentService;
+        private Student current;
+
+        private StudentConverter(StudentService studentService) {
+            this.studentService = studentService;
+        }
+
+        @Override
+        public Result<Student> convertToModel(StudentOption option, ValueContext context) {
+            if (option == null) {
+                return Result.ok(null);
+            }
+            if (current != null && option.id().equals(current.getId())) {
+                return Result.ok(current);
+            }
+            return studentService.findById(option.id())
+                    .map(student -> {
+                        current = student;
+                        return Result.ok(student);
+                    })
+                    .orElseGet(() -> Result.error("This student no longer exists"));
+        }
+
+        @Override
+        public StudentOption convertToPresentation(Student student, ValueContext context) {
+            current = student;
+            return student != null ? StudentOption.of(student) : null;
+        }
+    }
+}
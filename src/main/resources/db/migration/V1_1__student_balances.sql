@@ -0,0 +1,39 @@
+-- Per-student payment ledger. Not part of the V1 baseline: databases baselined from the
+-- hibernate-generated schema never had this table, so it is created here and runs for them too.
+-- "if not exists" covers databases where ddl-auto=update already created it.
+
+create table if not exists student_balances
+(
+    id              bigint generated by default as identity primary key,
+    created_at      timestamp(6)   not null,
+    updated_at      timestamp(6),
+    active          boolean        not null,
+    student_id      bigint         not null,
+    pending_amount  numeric(38, 2) not null,
+    paid_amount     numeric(38, 2) not null,
+    overdue_amount  numeric(38, 2) not null,
+    refunded_amount numeric(38, 2) not null,
+    next_due_date   date,
+    constraint uk_student_balances_student unique (student_id),
+    constraint fk_student_balances_student foreign key (student_id) references students (id) on delete cascade
+);
+
+-- Backfill from existing payments, the same aggregate StudentBalanceRepository.refreshAll runs
+insert into student_balances (student_id, pending_amount, paid_amount, overdue_amount, refunded_amount,
+                              next_due_date, active, created_at, updated_at)
+select p.student_id,
+       coalesce(sum(p.amount) filter (where p.status = 'PENDING'), 0),
+       coalesce(sum(p.amount) filter (where p.status = 'PAID'), 0),
+       coalesce(sum(p.amount) filter (where p.status = 'OVERDUE'), 0),
+       coalesce(sum(p.amount) filter (where p.status = 'REFUNDED'), 0),
+       min(p.due_date) filter (where p.status = 'PENDING'),
+       true, now(), now()
+from payments p
+group by p.student_id
+on conflict (student_id) do update set
+    pending_amount = excluded.pending_amount,
+    paid_amount = excluded.paid_amount,
+    overdue_amount = excluded.overdue_amount,
+    refunded_amount = excluded.refunded_amount,
+    next_due_date = excluded.next_due_date,
+    updated_at = excluded.updated_at;
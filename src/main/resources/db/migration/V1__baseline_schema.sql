@@ -0,0 +1,122 @@
+-- Baseline of the schema previously generated by hibernate ddl-auto=update.
+-- Existing databases are baselined at this version and skip straight to V2.
+
+create table users
+(
+    id                 bigint generated by default as identity primary key,
+    created_at         timestamp(6) not null,
+    updated_at         timestamp(6),
+    active             boolean      not null,
+    username           varchar(255) not null,
+    password           varchar(255) not null,
+    first_name         varchar(255) not null,
+    last_name          varchar(255) not null,
+    email              varchar(255) not null,
+    role               varchar(255) not null,
+    enabled            boolean      not null,
+    account_non_locked boolean      not null,
+    constraint uk_users_username unique (username),
+    constraint uk_users_email unique (email)
+);
+
+create table instructors
+(
+    id             bigint generated by default as identity primary key,
+    created_at     timestamp(6) not null,
+    updated_at     timestamp(6),
+    active         boolean      not null,
+    first_name     varchar(255) not null,
+    last_name      varchar(255) not null,
+    email          varchar(255) not null,
+    phone          varchar(255),
+    specialization varchar(255),
+    bio            varchar(1000),
+    user_id        bigint,
+    constraint uk_instructors_email unique (email),
+    constraint uk_instructors_user unique (user_id),
+    constraint fk_instructors_user foreign key (user_id) references users (id)
+);
+
+create table students
+(
+    id              bigint generated by default as identity primary key,
+    created_at      timestamp(6) not null,
+    updated_at      timestamp(6),
+    active          boolean      not null,
+    first_name      varchar(255) not null,
+    last_name       varchar(255) not null,
+    email           varchar(255) not null,
+    phone           varchar(255),
+    student_id      varchar(255),
+    status          varchar(255),
+    enrollment_date date,
+    graduation_date date,
+    constraint uk_students_email unique (email),
+    constraint uk_students_student_id unique (student_id)
+);
+
+create table courses
+(
+    id             bigint generated by default as identity primary key,
+    created_at     timestamp(6) not null,
+    updated_at     timestamp(6),
+    active         boolean      not null,
+    course_code    varchar(255) not null,
+    title          varchar(255) not null,
+    description    varchar(2000),
+    credits        integer,
+    duration_weeks integer,
+    instructor_id  bigint,
+    level          varchar(255),
+    constraint uk_courses_course_code unique (course_code),
+    constraint fk_courses_instructor foreign key (instructor_id) references instructors (id)
+);
+
+create table enrollments
+(
+    id              bigint generated by default as identity primary key,
+    created_at      timestamp(6) not null,
+    updated_at      timestamp(6),
+    active          boolean      not null,
+    student_id      bigint       not null,
+    course_id       bigint       not null,
+    enrollment_date date,
+    completion_date date,
+    status          varchar(255),
+    grade           float(53),
+    feedback        varchar(1000),
+    constraint fk_enrollments_student foreign key (student_id) references students (id),
+    constraint fk_enrollments_course foreign key (course_id) references courses (id)
+);
+
+create table interactions
+(
+    id               bigint generated by default as identity primary key,
+    created_at       timestamp(6) not null,
+    updated_at       timestamp(6),
+    active           boolean      not null,
+    student_id       bigint       not null,
+    type             varchar(255) not null,
+    subject          varchar(255) not null,
+    notes            varchar(3000),
+    interaction_date timestamp(6),
+    contacted_by     varchar(255),
+    constraint fk_interactions_student foreign key (student_id) references students (id)
+);
+
+create table payments
+(
+    id             bigint generated by default as identity primary key,
+    created_at     timestamp(6)   not null,
+    updated_at     timestamp(6),
+    active         boolean        not null,
+    student_id     bigint         not null,
+    amount         numeric(38, 2) not null,
+    payment_date   date,
+    due_date       date,
+    status         varchar(255),
+    method         varchar(255),
+    transaction_id varchar(255),
+    notes          varchar(500),
+    constraint fk_payments_student foreign key (student_id) references students (id)
+);
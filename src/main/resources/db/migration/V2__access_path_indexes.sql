@@ -0,0 +1,21 @@
+-- Indexes for the access paths the repositories actually use. "if not exists" keeps this
+-- safe on databases that were baselined from a hibernate-generated schema.
+
+-- Foreign keys: per-student screens, reports and the cascade deletes
+create index if not exists idx_enrollments_student on enrollments (student_id);
+create index if not exists idx_enrollments_course on enrollments (course_id);
+create index if not exists idx_payments_student on payments (student_id);
+create index if not exists idx_courses_instructor on courses (instructor_id);
+
+-- Overdue sweeper: status = 'PENDING' and due_date < today, ordered by due_date
+create index if not exists idx_payments_status_due_date on payments (status, due_date);
+
+-- Per-student interaction history, newest first
+create index if not exists idx_interactions_student_date on interactions (student_id, interaction_date);
+
+-- Cohort export and dashboard counts by status
+create index if not exists idx_students_status on students (status);
+
+-- Dashboard "recent" lists
+create index if not exists idx_enrollments_enrollment_date on enrollments (enrollment_date);
+create index if not exists idx_payments_payment_date on payments (payment_date);
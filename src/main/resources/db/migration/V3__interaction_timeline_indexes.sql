@@ -0,0 +1,8 @@
+-- Keyset timeline: (student_id, interaction_date desc, id desc) matches the seek predicate and
+-- sort exactly, so each page is a bounded index range scan. Supersedes the V2 index.
+create index if not exists idx_interactions_student_timeline
+    on interactions (student_id, interaction_date desc, id desc);
+drop index if exists idx_interactions_student_date;
+
+-- Global "latest N" on the dashboard
+create index if not exists idx_interactions_timeline on interactions (interaction_date desc, id desc);
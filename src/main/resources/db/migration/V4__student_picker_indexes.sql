@@ -0,0 +1,8 @@
+-- Case-insensitive prefix search for the student pickers: lower(col) like 'abc%'.
+-- text_pattern_ops lets LIKE prefixes use the index regardless of the database collation.
+create index if not exists idx_students_first_name_prefix on students (lower(first_name) text_pattern_ops);
+create index if not exists idx_students_last_name_prefix on students (lower(last_name) text_pattern_ops);
+create index if not exists idx_students_student_id_prefix on students (lower(student_id) text_pattern_ops);
+
+-- Unfiltered picker page: ordered by name
+create index if not exists idx_students_name on students (last_name, first_name, id);
@@ -0,0 +1,27 @@
+-- Weighted tsvector columns for the global search box, maintained by Postgres itself.
+-- Identifiers (names, ids, email, phone) use the 'simple' config so they are not stemmed;
+-- free text (subjects, notes, descriptions) uses 'english'.
+
+alter table students
+    add column search_vector tsvector generated always as (
+        setweight(to_tsvector('simple', coalesce(first_name, '') || ' ' || coalesce(last_name, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(student_id, '') || ' ' || coalesce(email, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(phone, '')), 'B')
+    ) stored;
+
+alter table courses
+    add column search_vector tsvector generated always as (
+        setweight(to_tsvector('simple', coalesce(course_code, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'C')
+    ) stored;
+
+alter table interactions
+    add column search_vector tsvector generated always as (
+        setweight(to_tsvector('english', coalesce(subject, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(notes, '')), 'C')
+    ) stored;
+
+create index idx_students_search on students using gin (search_vector);
+create index idx_courses_search on courses using gin (search_vector);
+create index idx_interactions_search on interactions using gin (search_vector);
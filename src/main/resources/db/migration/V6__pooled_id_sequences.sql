@@ -0,0 +1,40 @@
+-- Replace identity columns with one sequence per entity so Hibernate can batch inserts.
+-- Names follow Hibernate's implicit <entity>_seq naming. The increment matches the default
+-- allocation size of 50 used by the pooled-lo optimizer: each nextval reserves the block
+-- [value, value + 50) for the caller.
+
+create sequence user_seq increment by 50;
+select setval('user_seq', (select coalesce(max(id), 0) + 1 from users), false);
+alter table users alter column id drop identity if exists;
+
+create sequence instructor_seq increment by 50;
+select setval('instructor_seq', (select coalesce(max(id), 0) + 1 from instructors), false);
+alter table instructors alter column id drop identity if exists;
+
+create sequence student_seq increment by 50;
+select setval('student_seq', (select coalesce(max(id), 0) + 1 from students), false);
+alter table students alter column id drop identity if exists;
+
+create sequence course_seq increment by 50;
+select setval('course_seq', (select coalesce(max(id), 0) + 1 from courses), false);
+alter table courses alter column id drop identity if exists;
+
+create sequence enrollment_seq increment by 50;
+select setval('enrollment_seq', (select coalesce(max(id), 0) + 1 from enrollments), false);
+alter table enrollments alter column id drop identity if exists;
+
+create sequence interaction_seq increment by 50;
+select setval('interaction_seq', (select coalesce(max(id), 0) + 1 from interactions), false);
+alter table interactions alter column id drop identity if exists;
+
+create sequence payment_seq increment by 50;
+select setval('payment_seq', (select coalesce(max(id), 0) + 1 from payments), false);
+alter table payments alter column id drop identity if exists;
+
+create sequence student_balance_seq increment by 50;
+select setval('student_balance_seq', (select coalesce(max(id), 0) + 1 from student_balances), false);
+alter table student_balances alter column id drop identity if exists;
+
+-- Balances are only ever written by the native upsert, never by Hibernate, so the column can
+-- draw from its sequence directly
+alter table student_balances alter column id set default nextval('student_balance_seq');
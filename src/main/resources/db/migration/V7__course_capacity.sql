@@ -0,0 +1,22 @@
+-- Seat allocation. capacity is edited with the course; a null capacity means the course is
+-- not limited. seats_taken is never mapped by Hibernate: it is only moved by the conditional
+-- updates in EnrollmentService, which keeps the cached Course entities valid.
+
+alter table courses add column capacity integer;
+alter table courses add column seats_taken integer not null default 0;
+alter table courses add constraint chk_courses_capacity check (capacity is null or capacity > 0);
+alter table courses add constraint chk_courses_seats_taken check (seats_taken >= 0);
+
+-- Every enrollment that is neither withdrawn nor waitlisted holds a seat
+update courses c
+set seats_taken = (select count(*)
+                   from enrollments e
+                   where e.course_id = c.id
+                     and (e.status is null or e.status <> 'WITHDRAWN'));
+
+-- Databases created by ddl-auto before the baseline carry a generated check on the enum
+-- values, which would reject the new WAITLISTED status
+alter table enrollments drop constraint if exists enrollments_status_check;
+
+-- Waitlist queue: oldest waiting enrollment per course
+create index if not exists idx_enrollments_waitlist on enrollments (course_id, created_at, id) where status = 'WAITLISTED';
@@ -0,0 +1,11 @@
+-- Version column behind @Version on BaseEntity. Existing rows and rows written outside
+-- Hibernate (CSV import, balance upserts) start at 0.
+
+alter table users add column if not exists version bigint not null default 0;
+alter table instructors add column if not exists version bigint not null default 0;
+alter table students add column if not exists version bigint not null default 0;
+alter table courses add column if not exists version bigint not null default 0;
+alter table enrollments add column if not exists version bigint not null default 0;
+alter table interactions add column if not exists version bigint not null default 0;
+alter table payments add column if not exists version bigint not null default 0;
+alter table student_balances add column if not exists version bigint not null default 0;
@@ -0,0 +1,117 @@
+package nibm.project.campus_office;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import nibm.project.campus_office.entity.Interaction;
+import nibm.project.campus_office.entity.Payment;
+import nibm.project.campus_office.entity.Student;
+import nibm.project.campus_office.enums.InteractionType;
+import nibm.project.campus_office.enums.PaymentMethod;
+import nibm.project.campus_office.enums.PaymentStatus;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares inserts with JDBC batching switched off for the session (what IDENTITY ids forced
+ * on every insert) against the configured batch size with pooled-lo sequence ids.
+ */
+@Slf4j
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class BatchInsertThroughputTest {
+
+    private static final int ROWS = 5_000;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Student student;
+
+    @BeforeEach
+    void setUp() {
+        student = Student.builder()
+                .firstName("Satoru")
+                .lastName("Gojo")
+                .email("batch-" + System.nanoTime() + "@nibm.lk")
+                .build();
+        entityManager.persist(student);
+        entityManager.flush();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Payments insert in JDBC batches")
+    void paymentBatchInsert() {
+        compare("Payment", i -> Payment.builder()
+                .student(student)
+                .amount(BigDecimal.valueOf(1000 + i))
+                .dueDate(LocalDate.now().plusDays(i % 90))
+                .status(PaymentStatus.PENDING)
+                .method(PaymentMethod.CARD)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Interactions insert in JDBC batches")
+    void interactionBatchInsert() {
+        compare("Interaction", i -> Interaction.builder()
+                .student(student)
+                .type(InteractionType.CALL)
+                .subject("Batch call " + i)
+                .interactionDate(LocalDateTime.now().minusMinutes(i))
+                .build());
+    }
+
+    private void compare(String entity, IntFunction<Object> factory) {
+        Session session = entityManager.unwrap(Session.class);
+
+        session.setJdbcBatchSize(1);
+        Run unbatched = insert(factory);
+
+        session.setJdbcBatchSize(BATCH_SIZE);
+        Run batched = insert(factory);
+
+        log.info("{}: {} rows unbatched {} ms ({} statements), batched {} ms ({} statements)",
+                entity, ROWS, unbatched.millis(), unbatched.statements(), batched.millis(), batched.statements());
+
+        // One insert per batch plus one sequence call per block of 50 ids
+        assertThat(batched.statements()).isLessThanOrEqualTo(2L * ROWS / BATCH_SIZE + 2);
+        assertThat(unbatched.statements()).isGreaterThanOrEqualTo(ROWS);
+    }
+
+    private Run insert(IntFunction<Object> factory) {
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < ROWS; i++) {
+            entityManager.persist(factory.apply(i));
+        }
+        entityManager.flush();
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        entityManager.clear();
+        return new Run(millis, statistics.getPrepareStatementCount());
+    }
+
+    private record Run(long millis, long statements) {
+    }
+}
@@ -0,0 +1,103 @@
+package nibm.project.campus_office;
+
+import com.vaadin.flow.shared.Registration;
+import lombok.extern.slf4j.Slf4j;
+import nibm.project.campus_office.entity.Student;
+import nibm.project.campus_office.enums.StudentStatus;
+import nibm.project.campus_office.service.DashboardBroadcaster;
+import nibm.project.campus_office.service.DashboardStatsService;
+import nibm.project.campus_office.service.DashboardUpdate;
+import nibm.project.campus_office.service.StudentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Saves go through {@link StudentService} in their own committed transactions, since the
+ * broadcaster only reacts after commit.
+ */
+@Slf4j
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({StudentService.class, DashboardStatsService.class, DashboardBroadcaster.class,
+        DashboardBroadcasterTest.SchedulerConfig.class})
+class DashboardBroadcasterTest {
+
+    private static final int SAVES = 10;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private DashboardBroadcaster broadcaster;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String run = "push-" + System.nanoTime();
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from students where email like ?", run + ".%");
+    }
+
+    @Test
+    @DisplayName("A burst of saves reaches the dashboard as one update with only the changed sections")
+    void burstIsCoalesced() throws Exception {
+        BlockingQueue<DashboardUpdate> received = new LinkedBlockingQueue<>();
+        Registration registration = broadcaster.register(received::add);
+        try {
+            for (int i = 0; i < SAVES; i++) {
+                studentService.save(Student.builder()
+                        .firstName("Nobara")
+                        .lastName("Kugisaki " + i)
+                        .email(run + "." + i + "@nibm.lk")
+                        .enrollmentDate(LocalDate.now())
+                        .status(StudentStatus.ACTIVE)
+                        .build());
+            }
+
+            DashboardUpdate update = received.poll(5, TimeUnit.SECONDS);
+            assertThat(update).isNotNull();
+            log.info("Active students after burst: {}", update.stats().activeStudents());
+            assertThat(update.stats().activeStudents()).isGreaterThanOrEqualTo(SAVES);
+            assertThat(update.recentEnrollments()).isNull();
+            assertThat(update.recentPayments()).isNull();
+            assertThat(update.recentInteractions()).isNull();
+
+            assertThat(received.poll(2, TimeUnit.SECONDS)).isNull();
+        } finally {
+            registration.remove();
+        }
+    }
+
+    @TestConfiguration
+    static class SchedulerConfig {
+
+        @Bean
+        TaskScheduler taskScheduler() {
+            ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+            scheduler.setPoolSize(1);
+            return scheduler;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package nibm.project.campus_office;
+
+import lombok.extern.slf4j.Slf4j;
+import nibm.project.campus_office.entity.Course;
+import nibm.project.campus_office.entity.Enrollment;
+import nibm.project.campus_office.entity.Student;
+import nibm.project.campus_office.enums.CourseLevel;
+import nibm.project.campus_office.enums.EnrollmentStatus;
+import nibm.project.campus_office.enums.StudentStatus;
+import nibm.project.campus_office.repository.CourseRepository;
+import nibm.project.campus_office.repository.StudentRepository;
+import nibm.project.campus_office.service.CourseService;
+import nibm.project.campus_office.service.EnrollmentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Races enrollments for the same course on virtual threads. Each save runs in its own
+ * committed transaction, so the test itself must not hold one open.
+ */
+@Slf4j
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({EnrollmentService.class, CourseService.class})
+class EnrollmentCapacityTest {
+
+    private static final int CAPACITY = 25;
+    private static final int STUDENTS = 400;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String run;
+    private Course course;
+    private Course otherCourse;
+    private List<Student> students;
+
+    @BeforeEach
+    void setUp() {
+        run = UUID.randomUUID().toString().substring(0, 8);
+        course = courseRepository.save(course("CAP-" + run, "Cursed Techniques", CAPACITY));
+        otherCourse = courseRepository.save(course("CAP2-" + run, "Domain Expansion", null));
+        students = studentRepository.saveAll(IntStream.range(0, STUDENTS)
+                .mapToObj(i -> Student.builder()
+                        .firstName("Yuji")
+                        .lastName("Itadori " + i)
+                        .email(run + "." + i + "@nibm.lk")
+                        .status(StudentStatus.ACTIVE)
+                        .build())
+                .toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from enrollments where course_id in (?, ?)", course.getId(), otherCourse.getId());
+        jdbcTemplate.update("delete from courses where id in (?, ?)", course.getId(), otherCourse.getId());
+        jdbcTemplate.update("delete from students where email like ?", run + ".%");
+    }
+
+    @Test
+    @DisplayName("Concurrent enrollments never overbook; the overflow is waitlisted")
+    void concurrentEnrollmentsNeverOverbook() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Enrollment>> futures = new ArrayList<>();
+        long startedAt;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Student student : students) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return enrollmentService.save(enrollment(student));
+                }));
+            }
+            startedAt = System.nanoTime();
+            start.countDown();
+        }
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+
+        List<Enrollment> saved = new ArrayList<>();
+        for (Future<Enrollment> future : futures) {
+            saved.add(future.get());
+        }
+        Map<EnrollmentStatus, Long> byStatus = saved.stream()
+                .collect(Collectors.groupingBy(Enrollment::getStatus, Collectors.counting()));
+        log.info("{} enrollments in {} s ({} /s): {}", STUDENTS, String.format("%.2f", seconds),
+                Math.round(STUDENTS / seconds), byStatus);
+
+        assertThat(byStatus).containsEntry(EnrollmentStatus.ENROLLED, (long) CAPACITY)
+                .containsEntry(EnrollmentStatus.WAITLISTED, (long) STUDENTS - CAPACITY);
+        assertThat(countStored(EnrollmentStatus.ENROLLED)).isEqualTo(CAPACITY);
+        assertThat(seatsTaken()).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    @DisplayName("Withdrawing frees the seat for the oldest waitlisted enrollment")
+    void withdrawalPromotesFromWaitlist() {
+        List<Enrollment> saved = students.stream().limit(CAPACITY + 2)
+                .map(student -> enrollmentService.save(enrollment(student)))
+                .toList();
+        Enrollment firstWaiting = saved.get(CAPACITY);
+        Enrollment secondWaiting = saved.get(CAPACITY + 1);
+        assertThat(firstWaiting.getStatus()).isEqualTo(EnrollmentStatus.WAITLISTED);
+
+        Enrollment withdrawn = saved.get(0);
+        withdrawn.setStatus(EnrollmentStatus.WITHDRAWN);
+        enrollmentService.save(withdrawn);
+
+        Function<Enrollment, EnrollmentStatus> reload =
+                e -> enrollmentService.findById(e.getId()).orElseThrow().getStatus();
+        assertThat(reload.apply(firstWaiting)).isEqualTo(EnrollmentStatus.ENROLLED);
+        assertThat(reload.apply(secondWaiting)).isEqualTo(EnrollmentStatus.WAITLISTED);
+        assertThat(seatsTaken()).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    @DisplayName("Raising the capacity seats waitlisted enrollments at once")
+    void capacityIncreasePromotesFromWaitlist() {
+        List<Enrollment> saved = students.stream().limit(CAPACITY + 3)
+                .map(student -> enrollmentService.save(enrollment(student)))
+                .toList();
+        assertThat(countStored(EnrollmentStatus.WAITLISTED)).isEqualTo(3);
+
+        Course stored = courseService.findById(course.getId()).orElseThrow();
+        stored.setCapacity(CAPACITY + 2);
+        courseService.save(stored);
+
+        assertThat(countStored(EnrollmentStatus.ENROLLED)).isEqualTo(CAPACITY + 2);
+        assertThat(seatsTaken()).isEqualTo(CAPACITY + 2);
+        // Oldest first: only the last one is still waiting
+        assertThat(enrollmentService.findById(saved.get(CAPACITY + 2).getId()).orElseThrow().getStatus())
+                .isEqualTo(EnrollmentStatus.WAITLISTED);
+    }
+
+    @Test
+    @DisplayName("Opposite moves between two courses do not deadlock")
+    void oppositeMovesDoNotDeadlock() throws Exception {
+        // Unlimited on both sides, so every move takes and releases a seat
+        jdbcTemplate.update("update courses set capacity = null where id = ?", course.getId());
+        int pairs = 50;
+        List<Enrollment> inFirst = students.stream().limit(pairs)
+                .map(student -> enrollmentService.save(enrollment(student, course)))
+                .toList();
+        List<Enrollment> inSecond = students.stream().skip(pairs).limit(pairs)
+                .map(student -> enrollmentService.save(enrollment(student, otherCourse)))
+                .toList();
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Enrollment>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < pairs; i++) {
+                Enrollment toSecond = inFirst.get(i);
+                Enrollment toFirst = inSecond.get(i);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    toSecond.setCourse(otherCourse);
+                    return enrollmentService.save(toSecond);
+                }));
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    toFirst.setCourse(course);
+                    return enrollmentService.save(toFirst);
+                }));
+            }
+            start.countDown();
+        }
+        for (Future<Enrollment> future : futures) {
+            // A deadlock would surface here as a CannotAcquireLockException
+            future.get();
+        }
+
+        assertThat(seatsTaken()).isEqualTo(pairs);
+        assertThat(jdbcTemplate.queryForObject("select seats_taken from courses where id = ?",
+                Integer.class, otherCourse.getId())).isEqualTo(pairs);
+    }
+
+    private Course course(String code, String title, Integer capacity) {
+        return Course.builder()
+                .courseCode(code)
+                .title(title)
+                .credits(3)
+                .durationWeeks(12)
+                .level(CourseLevel.BEGINNER)
+                .capacity(capacity)
+                .build();
+    }
+
+    private Enrollment enrollment(Student student) {
+        return enrollment(student, course);
+    }
+
+    private Enrollment enrollment(Student student, Course target) {
+        return Enrollment.builder()
+                .student(student)
+                .course(target)
+                .enrollmentDate(LocalDate.now())
+                .status(EnrollmentStatus.ENROLLED)
+                .build();
+    }
+
+    private int seatsTaken() {
+        return jdbcTemplate.queryForObject("select seats_taken from courses where id = ?", Integer.class, course.getId());
+    }
+
+    private int countStored(EnrollmentStatus status) {
+        return jdbcTemplate.queryForObject("select count(*) from enrollments where course_id = ? and status = ?",
+                Integer.class, course.getId(), status.name());
+    }
+}
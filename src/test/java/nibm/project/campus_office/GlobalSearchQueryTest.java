@@ -0,0 +1,43 @@
+package nibm.project.campus_office;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static nibm.project.campus_office.service.GlobalSearchService.toPrefixQuery;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalSearchQueryTest {
+
+    @Test
+    @DisplayName("Blank and too-short input produce no query")
+    void emptyInput() {
+        assertThat(toPrefixQuery(null)).isEmpty();
+        assertThat(toPrefixQuery("")).isEmpty();
+        assertThat(toPrefixQuery("   ")).isEmpty();
+        assertThat(toPrefixQuery(" a ")).isEmpty();
+        assertThat(toPrefixQuery("!!")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Each word becomes a prefix term, joined with AND")
+    void multipleWords() {
+        assertThat(toPrefixQuery("Nanami")).isEqualTo("nanami:*");
+        assertThat(toPrefixQuery("  Kento   Nanami ")).isEqualTo("kento:* & nanami:*");
+    }
+
+    @Test
+    @DisplayName("tsquery operators are stripped instead of reaching to_tsquery")
+    void operators() {
+        assertThat(toPrefixQuery("a&b|c!d:(e)")).isEqualTo("a:* & b:* & c:* & d:* & e:*");
+        assertThat(toPrefixQuery("!cs101 <-> (intro)")).isEqualTo("cs101:* & intro:*");
+        assertThat(toPrefixQuery("java:*")).isEqualTo("java:*");
+    }
+
+    @Test
+    @DisplayName("Punctuation splits words; email and code characters inside a word are kept")
+    void punctuation() {
+        assertThat(toPrefixQuery("O'Brien, Sam.")).isEqualTo("o:* & brien:* & sam:*");
+        assertThat(toPrefixQuery("yuji@nibm.lk")).isEqualTo("yuji@nibm.lk:*");
+        assertThat(toPrefixQuery("-DIP-2024-")).isEqualTo("dip-2024:*");
+    }
+}
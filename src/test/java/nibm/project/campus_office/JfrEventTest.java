@@ -0,0 +1,94 @@
+package nibm.project.campus_office;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.extern.slf4j.Slf4j;
+import nibm.project.campus_office.entity.Student;
+import nibm.project.campus_office.enums.StudentStatus;
+import nibm.project.campus_office.monitoring.SqlFingerprints;
+import nibm.project.campus_office.monitoring.SqlProxyDataSourcePostProcessor;
+import nibm.project.campus_office.monitoring.SqlStatementListener;
+import nibm.project.campus_office.monitoring.jfr.ServiceSaveEventAspect;
+import nibm.project.campus_office.repository.StudentRepository;
+import nibm.project.campus_office.service.StudentService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Saves go through the service and commit, as the list views do, so the event can be checked
+ * against the statements flushed at commit.
+ */
+@Slf4j
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ServiceSaveEventAspect.class, StudentService.class, SqlProxyDataSourcePostProcessor.class,
+        SqlStatementListener.class, SqlFingerprints.class, JfrEventTest.AspectConfig.class})
+class JfrEventTest {
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Test
+    @DisplayName("A service save is recorded with its entity and the SQL it issued")
+    void recordsServiceSave() throws Exception {
+        Student saved;
+        Path dump = Files.createTempFile("jfr-event-test-", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("campus.ServiceSave").withThreshold(Duration.ZERO);
+            recording.start();
+            saved = studentService.save(Student.builder()
+                    .firstName("Maki")
+                    .lastName("Zenin")
+                    .email("jfr-" + System.nanoTime() + "@nibm.lk")
+                    .enrollmentDate(LocalDate.now())
+                    .status(StudentStatus.ACTIVE)
+                    .build());
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        try {
+            List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+            log.info("Recorded: {}", events);
+
+            assertThat(events).hasSize(1);
+            RecordedEvent event = events.get(0);
+            assertThat(event.getString("service")).isEqualTo("StudentService");
+            assertThat(event.getString("method")).isEqualTo("save");
+            assertThat(event.getString("entity")).isEqualTo("Student");
+            assertThat(event.getLong("entityId")).isEqualTo(saved.getId());
+            assertThat(event.getBoolean("succeeded")).isTrue();
+            // At least the INSERT flushed at commit
+            assertThat(event.getLong("sqlStatements")).isPositive();
+        } finally {
+            studentRepository.deleteById(saved.getId());
+            Files.deleteIfExists(dump);
+        }
+    }
+
+    @TestConfiguration
+    @EnableAspectJAutoProxy
+    static class AspectConfig {
+    }
+}
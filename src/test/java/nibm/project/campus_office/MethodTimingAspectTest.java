@@ -0,0 +1,80 @@
+package nibm.project.campus_office;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import nibm.project.campus_office.monitoring.MethodTimingAspect;
+import nibm.project.campus_office.repository.StudentRepository;
+import nibm.project.campus_office.service.StudentService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({MethodTimingAspect.class, StudentService.class, MethodTimingAspectTest.MetricsConfig.class})
+class MethodTimingAspectTest {
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Test
+    @DisplayName("Repository calls are timed under the application interface, with row counts")
+    void timesRepositoryCalls() {
+        int rows = studentRepository.findAllBy(PageRequest.of(0, 10)).size();
+        studentRepository.findAll(PageRequest.of(0, 5));
+
+        Timer own = registry.get("campus.repository")
+                .tags("repository", "StudentRepository", "method", "findAllBy", "outcome", "success")
+                .timer();
+        Timer inherited = registry.get("campus.repository")
+                .tags("repository", "StudentRepository", "method", "findAll")
+                .timer();
+        DistributionSummary returned = registry.get("campus.repository.rows")
+                .tags("repository", "StudentRepository", "method", "findAllBy")
+                .summary();
+        log.info("findAllBy: {} call(s), {} rows", own.count(), returned.totalAmount());
+
+        assertThat(own.count()).isEqualTo(1);
+        assertThat(inherited.count()).isEqualTo(1);
+        assertThat(returned.totalAmount()).isEqualTo(rows);
+    }
+
+    @Test
+    @DisplayName("Service calls are timed per method")
+    void timesServiceCalls() {
+        studentService.findAll();
+
+        assertThat(registry.get("campus.service")
+                .tags("service", "StudentService", "method", "findAll", "outcome", "success")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @TestConfiguration
+    @EnableAspectJAutoProxy
+    static class MetricsConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package nibm.project.campus_office;
+
+import lombok.extern.slf4j.Slf4j;
+import nibm.project.campus_office.entity.Student;
+import nibm.project.campus_office.enums.StudentStatus;
+import nibm.project.campus_office.repository.StudentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Two staff members editing the same student: each copy is loaded and saved in its own
+ * transaction, as the list views do, so the test runs without an enclosing one.
+ */
+@Slf4j
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OptimisticLockingTest {
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    private Student student;
+
+    @BeforeEach
+    void setUp() {
+        student = studentRepository.save(Student.builder()
+                .firstName("Megumi")
+                .lastName("Fushiguro")
+                .email("lock-" + System.nanoTime() + "@nibm.lk")
+                .enrollmentDate(LocalDate.now())
+                .status(StudentStatus.ACTIVE)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        studentRepository.deleteById(student.getId());
+    }
+
+    @Test
+    @DisplayName("A stale edit is rejected instead of overwriting the newer one")
+    void staleEditIsRejected() {
+        Student first = studentRepository.findById(student.getId()).orElseThrow();
+        Student second = studentRepository.findById(student.getId()).orElseThrow();
+
+        first.setPhone("0771111111");
+        studentRepository.save(first);
+
+        second.setPhone("0772222222");
+        assertThatThrownBy(() -> studentRepository.save(second))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+
+        Student stored = studentRepository.findById(student.getId()).orElseThrow();
+        log.info("Stored version {} keeps phone {}", stored.getVersion(), stored.getPhone());
+        assertThat(stored.getPhone()).isEqualTo("0771111111");
+        assertThat(stored.getVersion()).isEqualTo(first.getVersion() + 1);
+    }
+
+    @Test
+    @DisplayName("Overwrite: taking the stored version lets the edit through")
+    void overwriteWithStoredVersion() {
+        Student first = studentRepository.findById(student.getId()).orElseThrow();
+        Student second = studentRepository.findById(student.getId()).orElseThrow();
+
+        first.setPhone("0771111111");
+        studentRepository.save(first);
+
+        second.setPhone("0772222222");
+        second.setVersion(studentRepository.findById(student.getId()).orElseThrow().getVersion());
+        studentRepository.save(second);
+
+        assertThat(studentRepository.findById(student.getId()).orElseThrow().getPhone()).isEqualTo("0772222222");
+    }
+}
@@ -0,0 +1,100 @@
+package nibm.project.campus_office;
+
+import lombok.extern.slf4j.Slf4j;
+import nibm.project.campus_office.entity.User;
+import nibm.project.campus_office.enums.UserRole;
+import nibm.project.campus_office.repository.UserRepository;
+import nibm.project.campus_office.security.CaffeineUserCache;
+import nibm.project.campus_office.security.ThrottledPasswordEncoder;
+import nibm.project.campus_office.security.UserDetailsServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Signs in through the same provider setup as {@code SecurityConfig}, against a user whose
+ * password was stored before hashes carried an encoder prefix.
+ */
+@Slf4j
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({UserDetailsServiceImpl.class, CaffeineUserCache.class})
+class PasswordUpgradeTest {
+
+    private static final String PASSWORD = "staff123";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Autowired
+    private CaffeineUserCache userCache;
+
+    private ThrottledPasswordEncoder encoder;
+    private ProviderManager authenticationManager;
+    private String username;
+
+    @BeforeEach
+    void setUp() {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(10);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        encoder = new ThrottledPasswordEncoder(delegating, 2, 10);
+
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(userDetailsService);
+        provider.setPasswordEncoder(encoder);
+        provider.setUserCache(userCache);
+        provider.setUserDetailsPasswordService(userDetailsService);
+        authenticationManager = new ProviderManager(provider);
+
+        username = "legacy-" + System.nanoTime();
+        userRepository.saveAndFlush(User.builder()
+                .username(username)
+                .password(bcrypt.encode(PASSWORD))
+                .firstName("Kento")
+                .lastName("Nanami")
+                .email(username + "@nibm.lk")
+                .role(UserRole.STAFF)
+                .enabled(true)
+                .accountNonLocked(true)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        encoder.destroy();
+        userCache.clear();
+    }
+
+    @Test
+    @DisplayName("Legacy hash is re-encoded on sign-in and the old password keeps working")
+    void upgradesLegacyHash() {
+        authenticationManager.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(username, PASSWORD));
+
+        String stored = userRepository.findByUsername(username).orElseThrow().getPassword();
+        log.info("Stored hash after sign-in: {}", stored);
+        assertThat(stored).startsWith("{bcrypt}$2a$10$");
+
+        // Second sign-in reads the upgraded hash, then serves later ones from the cache
+        authenticationManager.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(username, PASSWORD));
+        assertThat(userCache.getUserFromCache(username)).isNotNull();
+        assertThat(userCache.getUserFromCache(username).getPassword()).isEqualTo(stored);
+    }
+}
@@ -0,0 +1,266 @@
+package nibm.project.campus_office;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import nibm.project.campus_office.entity.Course;
+import nibm.project.campus_office.entity.Instructor;
+import nibm.project.campus_office.entity.Student;
+import nibm.project.campus_office.enums.PaymentStatus;
+import nibm.project.campus_office.enums.StudentStatus;
+import nibm.project.campus_office.repository.EnrollmentRepository;
+import nibm.project.campus_office.repository.InteractionRepository;
+import nibm.project.campus_office.repository.PaymentRepository;
+import nibm.project.campus_office.repository.StudentRepository;
+import nibm.project.campus_office.service.GlobalSearchService;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs {@code EXPLAIN} on the SQL the main repository calls actually send, captured at the
+ * data source with their bind values, with sequential scans priced out. A query whose access
+ * path has no index still plans a {@code Seq Scan} and fails here instead of in production,
+ * and a change to a query method is checked without anyone updating this test.
+ */
+@Slf4j
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({GlobalSearchService.class, QueryPlanTest.CaptureConfig.class})
+class QueryPlanTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CapturedStatements captured;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private InteractionRepository interactionRepository;
+
+    @Autowired
+    private GlobalSearchService globalSearchService;
+
+    private Long instructorId;
+    private Long courseId;
+    private Long studentId;
+
+    @BeforeEach
+    void setUp() {
+        // Transaction-scoped; @DataJpaTest rolls back after each test
+        entityManager.getEntityManager().createNativeQuery("set local enable_seqscan = off").executeUpdate();
+
+        Instructor instructor = entityManager.persist(Instructor.builder()
+                .firstName("Satoru")
+                .lastName("Gojo")
+                .email("plan-gojo@nibm.lk")
+                .build());
+        Course course = entityManager.persist(Course.builder()
+                .courseCode("PLAN-101")
+                .title("Query Plans")
+                .instructor(instructor)
+                .build());
+        Student student = entityManager.persist(Student.builder()
+                .firstName("Megumi")
+                .lastName("Fushiguro")
+                .email("plan-megumi@nibm.lk")
+                .studentId("PLAN-1")
+                .enrollmentDate(LocalDate.now())
+                .status(StudentStatus.ACTIVE)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        instructorId = instructor.getId();
+        courseId = course.getId();
+        studentId = student.getId();
+    }
+
+    @Test
+    @DisplayName("Enrollments by student")
+    void enrollmentsByStudent() {
+        Student student = entityManager.find(Student.class, studentId);
+        assertUsesIndexes(() -> enrollmentRepository.findByStudent(student));
+        assertUsesIndexes(() -> student.getEnrollments().size());
+    }
+
+    @Test
+    @DisplayName("Enrollments by course and the course waitlist")
+    void enrollmentsByCourse() {
+        Course course = entityManager.find(Course.class, courseId);
+        assertUsesIndexes(() -> course.getEnrollments().size());
+        assertUsesIndexes(() -> enrollmentRepository.findNextWaitlisted(courseId));
+    }
+
+    @Test
+    @DisplayName("Payments by student")
+    void paymentsByStudent() {
+        Student student = entityManager.find(Student.class, studentId);
+        assertUsesIndexes(() -> student.getPayments().size());
+    }
+
+    @Test
+    @DisplayName("Overdue sweep chunk")
+    void overdueSweep() {
+        assertUsesIndexes(() -> paymentRepository.findByStatusAndDueDateBeforeOrderByDueDateAsc(
+                PaymentStatus.PENDING, LocalDate.now(), Limit.of(500)));
+    }
+
+    @Test
+    @DisplayName("Interaction timeline, first and next page")
+    void interactionTimeline() {
+        Student student = entityManager.find(Student.class, studentId);
+        assertUsesIndexes(() -> interactionRepository.findLatestByStudent(student, Limit.of(20)));
+        assertUsesIndexes(() -> interactionRepository.findByStudentAndInteractionDateBefore(
+                student, LocalDateTime.now(), Long.MAX_VALUE, Limit.of(20)));
+    }
+
+    @Test
+    @DisplayName("Students by status")
+    void studentsByStatus() {
+        assertUsesIndexes(() -> studentRepository.findByStatusOrderByIdAsc(StudentStatus.ACTIVE));
+    }
+
+    @Test
+    @DisplayName("Courses by instructor")
+    void coursesByInstructor() {
+        Instructor instructor = entityManager.find(Instructor.class, instructorId);
+        assertUsesIndexes(() -> instructor.getCourses().size());
+    }
+
+    @Test
+    @DisplayName("Dashboard recent enrollments and payments")
+    void recentActivity() {
+        assertUsesIndexes(() -> enrollmentRepository.findTop5ByEnrollmentDateIsNotNullOrderByEnrollmentDateDesc());
+        assertUsesIndexes(() -> paymentRepository.findTop5ByPaymentDateIsNotNullOrderByPaymentDateDesc());
+    }
+
+    @Test
+    @DisplayName("Global search over students, courses and interactions")
+    void globalSearch() {
+        assertUsesIndexes(() -> globalSearchService.search("megumi java", 0, 20));
+    }
+
+    private void assertUsesIndexes(Runnable work) {
+        List<QueryInfo> statements = captured.during(work);
+        assertThat(statements).as("statements issued").isNotEmpty();
+
+        for (QueryInfo statement : statements) {
+            List<String> plan = explain(statement);
+            log.info("{}\n{}", statement.getQuery(), String.join("\n", plan));
+
+            assertThat(plan).as(statement.getQuery()).noneMatch(line -> line.contains("Seq Scan"));
+        }
+    }
+
+    /**
+     * Explains the statement on the test transaction's connection, replaying the bind values
+     * it was executed with.
+     */
+    private List<String> explain(QueryInfo statement) {
+        return entityManager.getEntityManager().unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement explain = connection.prepareStatement("explain " + statement.getQuery())) {
+                if (!statement.getParametersList().isEmpty()) {
+                    for (ParameterSetOperation operation : statement.getParametersList().get(0)) {
+                        operation.getMethod().invoke(explain, operation.getArgs());
+                    }
+                }
+                List<String> plan = new ArrayList<>();
+                try (ResultSet rs = explain.executeQuery()) {
+                    while (rs.next()) {
+                        plan.add(rs.getString(1));
+                    }
+                }
+                return plan;
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Could not replay the bind values of " + statement.getQuery(), e);
+            }
+        });
+    }
+
+    /**
+     * Collects the statements sent while a piece of work runs; the test runs on one thread.
+     */
+    static class CapturedStatements implements QueryExecutionListener {
+
+        private final List<QueryInfo> statements = new ArrayList<>();
+        private boolean capturing;
+
+        List<QueryInfo> during(Runnable work) {
+            statements.clear();
+            capturing = true;
+            try {
+                work.run();
+            } finally {
+                capturing = false;
+            }
+            return List.copyOf(statements);
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            if (capturing) {
+                statements.addAll(queryInfoList);
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class CaptureConfig {
+
+        @Bean
+        static CapturedStatements capturedStatements() {
+            return new CapturedStatements();
+        }
+
+        @Bean
+        static BeanPostProcessor capturingDataSource(CapturedStatements captured) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                        return ProxyDataSourceBuilder.create(dataSource).listener(captured).build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
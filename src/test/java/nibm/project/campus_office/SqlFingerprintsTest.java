@@ -0,0 +1,38 @@
+package nibm.project.campus_office;
+
+import nibm.project.campus_office.monitoring.SqlFingerprints;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class SqlFingerprintsTest {
+
+    @Test
+    @DisplayName("Literals, bind markers and IN lists collapse to one fingerprint")
+    void normalizesStatements() {
+        assertThat(SqlFingerprints.fingerprint("select * from students s1_0 where s1_0.id in (?, ?, ?)"))
+                .isEqualTo("select * from students s1_0 where s1_0.id in (?)");
+        assertThat(SqlFingerprints.fingerprint("select *\n  from payments where status = 'PENDING' limit 500"))
+                .isEqualTo("select * from payments where status = ? limit ?");
+        assertThat(SqlFingerprints.fingerprint("select 'it''s', 1.5"))
+                .isEqualTo("select ?, ?");
+    }
+
+    @Test
+    @DisplayName("Top statements are ranked by total time")
+    void ranksByTotalTime() {
+        SqlFingerprints fingerprints = new SqlFingerprints();
+        for (int i = 0; i < 100; i++) {
+            fingerprints.record("select * from students where id = " + i, 1_000_000);
+        }
+        fingerprints.record("select count(*) from payments", 50_000_000);
+
+        assertThat(fingerprints.top(2))
+                .extracting(SqlFingerprints.Entry::statement, SqlFingerprints.Entry::calls)
+                .containsExactly(
+                        tuple("select * from students where id = ?", 100L),
+                        tuple("select count(*) from payments", 1L));
+    }
+}
@@ -0,0 +1,150 @@
+package nibm.project.campus_office;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import nibm.project.campus_office.entity.*;
+import nibm.project.campus_office.enums.EnrollmentStatus;
+import nibm.project.campus_office.enums.InteractionType;
+import nibm.project.campus_office.enums.StudentStatus;
+import nibm.project.campus_office.repository.InstructorRepository;
+import nibm.project.campus_office.repository.StudentRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the per-screen SQL statement budget, so a collection that silently turns eager
+ * again (or a new N+1 in a fetch plan) fails the build.
+ */
+@Slf4j
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class StatementCountTest {
+
+    private static final int STUDENTS = 20;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private InstructorRepository instructorRepository;
+
+    private Statistics statistics;
+    private Long studentId;
+
+    @BeforeEach
+    void setUp() {
+        Instructor instructor = entityManager.persist(Instructor.builder()
+                .firstName("Kento")
+                .lastName("Nanami")
+                .email("nanami@nibm.lk")
+                .build());
+
+        Course first = entityManager.persist(Course.builder()
+                .courseCode("STMT-101").title("Statements I").instructor(instructor).build());
+        Course second = entityManager.persist(Course.builder()
+                .courseCode("STMT-102").title("Statements II").instructor(instructor).build());
+
+        for (int i = 0; i < STUDENTS; i++) {
+            Student student = entityManager.persist(Student.builder()
+                    .firstName("Student" + i)
+                    .lastName("Stmt")
+                    .email("stmt" + i + "@nibm.lk")
+                    .studentId("STMT-" + i)
+                    .enrollmentDate(LocalDate.now())
+                    .status(StudentStatus.ACTIVE)
+                    .build());
+            studentId = student.getId();
+
+            for (Course course : List.of(first, second)) {
+                entityManager.persist(Enrollment.builder()
+                        .student(student).course(course)
+                        .enrollmentDate(LocalDate.now())
+                        .status(EnrollmentStatus.ENROLLED)
+                        .build());
+            }
+            for (int j = 0; j < 3; j++) {
+                entityManager.persist(Interaction.builder()
+                        .student(student)
+                        .type(InteractionType.EMAIL)
+                        .subject("Follow-up " + j)
+                        .interactionDate(LocalDateTime.now().minusDays(j))
+                        .build());
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Student grid page - one statement, no collection loads")
+    void studentGridPage() {
+        List<Student> page = studentRepository.findAllBy(PageRequest.of(0, 50, Sort.by("id")));
+
+        assertThat(page).hasSizeGreaterThanOrEqualTo(STUDENTS);
+        assertStatementsAtMost(1);
+    }
+
+    @Test
+    @DisplayName("Student picker - findAll does not cascade into enrollments or interactions")
+    void studentPicker() {
+        studentRepository.findAll();
+
+        assertStatementsAtMost(1);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Student report - full graph in at most three statements")
+    void studentReportGraph() {
+        Student student = studentRepository.findWithEnrollmentsById(studentId).orElseThrow();
+
+        student.getEnrollments().forEach(e -> e.getCourse().getInstructor().getLastName());
+        student.getInteractions().size();
+        student.getPayments().size();
+
+        assertThat(student.getEnrollments()).hasSize(2);
+        assertStatementsAtMost(3);
+    }
+
+    @Test
+    @DisplayName("Instructor grid page - courses resolved in two statements")
+    void instructorGridPage() {
+        List<Instructor> page = instructorRepository.findPageWithCourses(PageRequest.of(0, 50, Sort.by("id")));
+
+        page.forEach(i -> i.getCourses().size());
+
+        assertThat(page).isNotEmpty();
+        assertStatementsAtMost(2);
+    }
+
+    private void assertStatementsAtMost(long max) {
+        long statements = statistics.getPrepareStatementCount();
+        log.info("Prepared statements: {}", statements);
+        assertThat(statements).isLessThanOrEqualTo(max);
+    }
+}
@@ -0,0 +1,87 @@
+package nibm.project.campus_office;
+
+import lombok.extern.slf4j.Slf4j;
+import nibm.project.campus_office.imports.StudentCsvImporter;
+import nibm.project.campus_office.imports.StudentImportReport;
+import nibm.project.campus_office.imports.StudentImportReport.RowError;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@Slf4j
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(StudentCsvImporter.class)
+class StudentCsvImportTest {
+
+    private static final int ROWS = 20_000;
+
+    @Autowired
+    private StudentCsvImporter importer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Imports valid rows in batches and reports rejected ones by line")
+    void importsAndReportsErrors() throws Exception {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        StringBuilder csv = new StringBuilder("student_id,first_name,last_name,email,phone,status,enrollment_date\n");
+        for (int i = 0; i < ROWS; i++) {
+            csv.append(run).append('-').append(i).append(",Yuji,\"Itadori, ").append(i).append("\",")
+                    .append(run).append('.').append(i).append("@nibm.lk,0771234567,ACTIVE,2025-01-15\n");
+        }
+        // Line numbers include the header
+        csv.append(run).append("-bad,Megumi,Fushiguro,not-an-email,,ACTIVE,\n");      // line ROWS + 2
+        csv.append(run).append("-0,Nobara,Kugisaki,").append(run).append(".x@nibm.lk,,,\n"); // line ROWS + 3
+        csv.append(run).append("-nolast,Maki,,").append(run).append(".maki@nibm.lk,,,\n");  // line ROWS + 4
+
+        long before = countStudents();
+        StudentImportReport report = importer.importCsv(
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)));
+        log.info("Import report: {} imported, {} rejected, {} rows/s",
+                report.imported(), report.rejected(), report.rowsPerSecond());
+
+        assertThat(report.rows()).isEqualTo(ROWS + 3);
+        assertThat(report.imported()).isEqualTo(ROWS);
+        assertThat(countStudents() - before).isEqualTo(ROWS);
+        assertThat(report.errors())
+                .extracting(RowError::line, RowError::message)
+                .containsExactly(
+                        tuple((long) ROWS + 2, "Invalid email format"),
+                        tuple((long) ROWS + 3, "Student ID already exists"),
+                        tuple((long) ROWS + 4, "Last name is required"));
+    }
+
+    @Test
+    @DisplayName("Rows of a batch the database rejects are reported with their own line numbers")
+    void rejectedBatchKeepsLineNumbers() throws Exception {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        String tooLong = "x".repeat(300);
+        String csv = "student_id,first_name,last_name,email\n"
+                + run + "-a,Yuta,Okkotsu," + run + ".a@nibm.lk\n"
+                + run + "-b,Toge," + tooLong + "," + run + ".b@nibm.lk\n";
+
+        StudentImportReport report = importer.importCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(report.imported()).isZero();
+        assertThat(report.errors())
+                .extracting(RowError::line, RowError::studentId)
+                .containsExactly(tuple(2L, run + "-a"), tuple(3L, run + "-b"));
+    }
+
+    private long countStudents() {
+        return jdbcTemplate.queryForObject("select count(*) from students", Long.class);
+    }
+}
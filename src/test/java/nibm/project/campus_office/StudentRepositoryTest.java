@@ -1,6 +1,7 @@
 package nibm.project.campus_office;
 
 import lombok.extern.slf4j.Slf4j;
+import nibm.project.campus_office.dto.StudentOption;
 import nibm.project.campus_office.entity.Student;
 import nibm.project.campus_office.enums.StudentStatus;
 import nibm.project.campus_office.repository.StudentRepository;
@@ -9,10 +10,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 @Slf4j
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
@@ -59,4 +64,32 @@ class StudentRepositoryTest {
         log.info("Email  - {}", found.get().getEmail());
         log.info("✓ READ test passed - Found: {}", found.get().getFirstName());
     }
+
+    @Test
+    @DisplayName("SEARCH - LIKE wildcards in the filter match literally")
+    void shouldMatchWildcardsLiterally() {
+        studentRepository.save(student("Nobara", "Kugi_saki", "nobara@nibm.lk"));
+        studentRepository.save(student("Nobara", "Kugisaki", "kugisaki@nibm.lk"));
+        studentRepository.save(student("Panda", "100%\\Real", "panda@nibm.lk"));
+
+        assertThat(studentRepository.searchByName("i_s", PageRequest.of(0, 10)))
+                .extracting(Student::getLastName).containsExactly("Kugi_saki");
+        assertThat(studentRepository.searchByName("%", PageRequest.of(0, 10)))
+                .extracting(Student::getLastName).containsExactly("100%\\Real");
+        assertThat(studentRepository.searchByName("%\\", PageRequest.of(0, 10)))
+                .extracting(Student::getLastName).containsExactly("100%\\Real");
+
+        List<StudentOption> options = studentRepository.findOptions("kugi_", PageRequest.of(0, 10));
+        assertThat(options).extracting(StudentOption::lastName).containsExactly("Kugi_saki");
+    }
+
+    private static Student student(String firstName, String lastName, String email) {
+        return Student.builder()
+                .firstName(firstName)
+                .lastName(lastName)
+                .email(email)
+                .enrollmentDate(LocalDate.now())
+                .status(StudentStatus.ACTIVE)
+                .build();
+    }
 }
@@ -0,0 +1,45 @@
+package nibm.project.campus_office.exports;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvWriterTest {
+
+    @Test
+    @DisplayName("Fields with separators, quotes or line breaks are quoted and quotes doubled")
+    void quotesSpecialCharacters() throws Exception {
+        assertThat(write("plain", "a,b", "say \"hi\"", "two\nlines", "cr\rhere", null))
+                .isEqualTo("plain,\"a,b\",\"say \"\"hi\"\"\",\"two\nlines\",\"cr\rhere\",\r\n");
+    }
+
+    @Test
+    @DisplayName("Text that a spreadsheet would run as a formula is prefixed with an apostrophe")
+    void neutralizesFormulas() throws Exception {
+        assertThat(write("=SUM(A1:A9)", "+94771234567", "-1+2", "@cmd", "\tTAB", "\rCR"))
+                .isEqualTo("'=SUM(A1:A9),'+94771234567,'-1+2,'@cmd,'\tTAB,\"'\rCR\"\r\n");
+        assertThat(write("=HYPERLINK(\"x\",\"y\")"))
+                .isEqualTo("\"'=HYPERLINK(\"\"x\"\",\"\"y\"\")\"\r\n");
+    }
+
+    @Test
+    @DisplayName("Numbers keep their sign and are written in plain notation")
+    void numbersAreNotPrefixed() throws Exception {
+        assertThat(write(new BigDecimal("-1500.50"), -3, new BigDecimal("1E+3")))
+                .isEqualTo("-1500.50,-3,1000\r\n");
+    }
+
+    private static String write(Object... values) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CsvWriter csv = new CsvWriter(out)) {
+            csv.writeRow(values);
+        }
+        // Drop the byte order mark
+        return out.toString(StandardCharsets.UTF_8).substring(1);
+    }
+}
@@ -0,0 +1,75 @@
+package nibm.project.campus_office.monitoring;
+
+import com.vaadin.flow.router.AfterNavigationEvent;
+import com.vaadin.flow.router.BeforeEnterEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nibm.project.campus_office.views.Dashboard.DashboardView;
+import nibm.project.campus_office.views.sudent.StudentListView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+class NavigationTimingListenerTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final NavigationTimingListener listener = new NavigationTimingListener(registry, Duration.ofMinutes(1));
+
+    @Test
+    @DisplayName("A completed navigation is recorded under its route")
+    void completedNavigation() {
+        NavigationTimingListener.NavigationTiming timing = listener.timing();
+
+        timing.beforeEnter(beforeEnter(StudentListView.class));
+        timing.afterNavigation(mock(AfterNavigationEvent.class));
+
+        assertThat(timer("StudentListView").count()).isEqualTo(1);
+        assertThat(registry.find("campus.navigation.statements").tag("route", "StudentListView")
+                .summary().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A navigation that never rendered does not leak its start into the next one")
+    void abortedNavigation() throws InterruptedException {
+        NavigationTimingListener.NavigationTiming timing = listener.timing();
+
+        // Postponed or failed: BeforeEnter without AfterNavigation
+        timing.beforeEnter(beforeEnter(StudentListView.class));
+        Thread.sleep(200);
+        timing.beforeEnter(beforeEnter(DashboardView.class));
+        timing.afterNavigation(mock(AfterNavigationEvent.class));
+
+        assertThat(registry.find("campus.navigation").tag("route", "StudentListView").timer()).isNull();
+        assertThat(timer("DashboardView").count()).isEqualTo(1);
+        assertThat(timer("DashboardView").max(TimeUnit.MILLISECONDS)).isLessThan(200);
+    }
+
+    @Test
+    @DisplayName("An AfterNavigation without a matching BeforeEnter records nothing")
+    void afterNavigationAlone() {
+        NavigationTimingListener.NavigationTiming timing = listener.timing();
+
+        timing.beforeEnter(beforeEnter(StudentListView.class));
+        timing.afterNavigation(mock(AfterNavigationEvent.class));
+        timing.afterNavigation(mock(AfterNavigationEvent.class));
+
+        assertThat(timer("StudentListView").count()).isEqualTo(1);
+    }
+
+    private Timer timer(String route) {
+        return registry.get("campus.navigation").tag("route", route).timer();
+    }
+
+    private static BeforeEnterEvent beforeEnter(Class<?> target) {
+        BeforeEnterEvent event = mock(BeforeEnterEvent.class);
+        doReturn(target).when(event).getNavigationTarget();
+        return event;
+    }
+}